@@ -0,0 +1,19 @@
+package pt.xpandit.movieapi.analytics;
+
+import java.math.BigInteger;
+
+/**
+ * Result of a column scan. Minimum and maximum values are only meaningful when {@code count > 0}.
+ *
+ * @param count        The number of matching rows.
+ * @param revenueSum   The total revenue of the matching rows, in cents. Kept exact, as it may exceed a long.
+ * @param rankSum      The sum of the ranks of the matching rows, in tenths.
+ * @param minRank      The lowest rank, in tenths.
+ * @param maxRank      The highest rank, in tenths.
+ * @param minRevenue   The lowest revenue, in cents.
+ * @param maxRevenue   The highest revenue, in cents.
+ */
+public record ColumnAggregate(long count, BigInteger revenueSum, long rankSum,
+                              long minRank, long maxRank,
+                              long minRevenue, long maxRevenue) {
+}
@@ -0,0 +1,20 @@
+package pt.xpandit.movieapi.analytics;
+
+/**
+ * Filter applied by a column scan. Both bounds are inclusive.
+ *
+ * @param fromDay The earliest launch date, in epoch days.
+ * @param toDay   The latest launch date, in epoch days.
+ */
+public record ColumnFilter(int fromDay, int toDay) {
+
+    /**
+     * Checks whether a row matches the filter.
+     *
+     * @param day The launch date of the row, in epoch days
+     * @return true if the launch date lies within the bounds
+     */
+    public boolean matches(int day) {
+        return day >= fromDay && day <= toDay;
+    }
+}
@@ -0,0 +1,29 @@
+package pt.xpandit.movieapi.analytics;
+
+import java.math.BigInteger;
+
+/**
+ * Result of a grouped column scan: the number of matching rows and their total revenue per group.
+ * Groups are consecutive integer keys starting at {@code firstGroup}; groups without matching rows have a zero count.
+ *
+ * @param firstGroup  The key of the first group.
+ * @param counts      The number of matching rows of each group.
+ * @param revenueSums The total revenue of each group, in cents.
+ */
+public record ColumnGroups(int firstGroup, long[] counts, BigInteger[] revenueSums) {
+
+    /**
+     * @return The number of groups
+     */
+    public int size() {
+        return counts.length;
+    }
+
+    /**
+     * @param index The index of the group
+     * @return The key of the group at the given index
+     */
+    public int group(int index) {
+        return firstGroup + index;
+    }
+}
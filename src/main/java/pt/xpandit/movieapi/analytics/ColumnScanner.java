@@ -0,0 +1,92 @@
+package pt.xpandit.movieapi.analytics;
+
+/**
+ * Filter and aggregate kernel over the columns of a movie snapshot.
+ * Implementations must return identical results for identical input.
+ * Revenue sums are exact: they fall back to BigInteger arithmetic instead of overflowing.
+ */
+public interface ColumnScanner {
+
+    /**
+     * Aggregates the first {@code length} rows that match the filter.
+     *
+     * @param epochDays    Launch dates in epoch days
+     * @param rankTenths   Ranks multiplied by ten
+     * @param revenueCents Revenues in cents
+     * @param length       The number of rows to scan
+     * @param filter       The filter rows must match
+     * @return ColumnAggregate of the matching rows
+     */
+    ColumnAggregate aggregate(int[] epochDays, short[] rankTenths, long[] revenueCents, int length, ColumnFilter filter);
+
+    /**
+     * Counts the first {@code length} rows that match the filter and sums their revenue per launch year, in one pass.
+     * Grouping scatters rows into per-group accumulators, which the Vector API cannot do without lane conflicts,
+     * so every implementation shares this scalar loop.
+     *
+     * @param epochDays    Launch dates in epoch days
+     * @param launchYears  Launch years
+     * @param revenueCents Revenues in cents
+     * @param length       The number of rows to scan
+     * @param filter       The filter rows must match
+     * @return ColumnGroups keyed by launch year, spanning the earliest to the latest matching year
+     */
+    default ColumnGroups aggregateByYear(int[] epochDays, int[] launchYears, long[] revenueCents, int length,
+                                         ColumnFilter filter) {
+        GroupAccumulator groups = new GroupAccumulator();
+        for (int i = 0; i < length; i++) {
+            if (filter.matches(epochDays[i])) {
+                groups.add(launchYears[i], revenueCents[i]);
+            }
+        }
+        return groups.toGroups();
+    }
+
+    /**
+     * Counts the first {@code length} rows that match the filter and sums their revenue per revenue bucket, in one pass.
+     * Bucket {@code b} holds the revenues in {@code [minRevenue + b * width, minRevenue + (b + 1) * width)};
+     * rows below the first bucket or beyond the last one are skipped.
+     *
+     * @param epochDays    Launch dates in epoch days
+     * @param revenueCents Revenues in cents
+     * @param length       The number of rows to scan
+     * @param filter       The filter rows must match
+     * @param minRevenue   The lowest revenue of the first bucket, in cents
+     * @param width        The width of each bucket, in cents
+     * @param buckets      The number of buckets
+     * @return ColumnGroups keyed by bucket index, from 0 to {@code buckets - 1}
+     */
+    default ColumnGroups aggregateByRevenueBucket(int[] epochDays, long[] revenueCents, int length, ColumnFilter filter,
+                                                  long minRevenue, long width, int buckets) {
+        GroupAccumulator groups = new GroupAccumulator(0, buckets);
+        for (int i = 0; i < length; i++) {
+            long revenue = revenueCents[i];
+            if (revenue < minRevenue || !filter.matches(epochDays[i])) {
+                continue;
+            }
+            long bucket = (revenue - minRevenue) / width;
+            if (bucket < buckets) {
+                groups.add((int) bucket, revenue);
+            }
+        }
+        return groups.toGroups();
+    }
+
+    /**
+     * Selects the fastest scanner available on the running JVM.
+     * The Vector API scanner is only used when the {@code jdk.incubator.vector} module is present
+     * and the platform vector shape can hold matching int, short and long lanes.
+     *
+     * @return The vectorized scanner if available, otherwise the scalar one
+     */
+    static ColumnScanner best() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+            try {
+                return new VectorColumnScanner();
+            } catch (IllegalArgumentException | LinkageError ex) {
+                return new ScalarColumnScanner();
+            }
+        }
+        return new ScalarColumnScanner();
+    }
+}
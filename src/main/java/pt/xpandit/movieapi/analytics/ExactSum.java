@@ -0,0 +1,27 @@
+package pt.xpandit.movieapi.analytics;
+
+import java.math.BigInteger;
+
+/**
+ * Sum of longs that never overflows.
+ * Values are added with exact long arithmetic, and the running sum is moved into a BigInteger
+ * only when the next addition would overflow, so the common case stays a single add.
+ */
+final class ExactSum {
+
+    private long sum;
+    private BigInteger overflow = BigInteger.ZERO;
+
+    void add(long value) {
+        try {
+            sum = Math.addExact(sum, value);
+        } catch (ArithmeticException ex) {
+            overflow = overflow.add(BigInteger.valueOf(sum));
+            sum = value;
+        }
+    }
+
+    BigInteger toBigInteger() {
+        return overflow.add(BigInteger.valueOf(sum));
+    }
+}
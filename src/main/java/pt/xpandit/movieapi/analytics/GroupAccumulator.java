@@ -0,0 +1,99 @@
+package pt.xpandit.movieapi.analytics;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+/**
+ * Accumulates counts and overflow-safe revenue sums per integer group key.
+ * The key range grows in both directions as new keys are seen, so groups do not need to be known before the scan.
+ */
+final class GroupAccumulator {
+
+    private static final int INITIAL_GROUPS = 16;
+
+    private int firstGroup;
+    private long[] counts = new long[0];
+    private long[] sums = new long[0];
+    private BigInteger[] overflows;
+
+    GroupAccumulator() {
+    }
+
+    /**
+     * Creates an accumulator for a known range of keys.
+     *
+     * @param firstGroup The first key
+     * @param groups The number of keys
+     */
+    GroupAccumulator(int firstGroup, int groups) {
+        this.firstGroup = firstGroup;
+        this.counts = new long[groups];
+        this.sums = new long[groups];
+    }
+
+    void add(int group, long revenue) {
+        int index = group - firstGroup;
+        if (index < 0 || index >= counts.length) {
+            index = grow(group);
+        }
+        counts[index]++;
+        try {
+            sums[index] = Math.addExact(sums[index], revenue);
+        } catch (ArithmeticException ex) {
+            if (overflows == null) {
+                overflows = new BigInteger[counts.length];
+            }
+            overflows[index] = overflow(index).add(BigInteger.valueOf(sums[index]));
+            sums[index] = revenue;
+        }
+    }
+
+    ColumnGroups toGroups() {
+        BigInteger[] revenueSums = new BigInteger[counts.length];
+        for (int i = 0; i < counts.length; i++) {
+            revenueSums[i] = overflow(i).add(BigInteger.valueOf(sums[i]));
+        }
+        return new ColumnGroups(firstGroup, counts, revenueSums);
+    }
+
+    private BigInteger overflow(int index) {
+        return overflows == null || overflows[index] == null ? BigInteger.ZERO : overflows[index];
+    }
+
+    /**
+     * Widens the key range to include the given key.
+     *
+     * @return The index of the key in the widened range
+     */
+    private int grow(int group) {
+        if (counts.length == 0) {
+            firstGroup = group;
+            counts = new long[INITIAL_GROUPS];
+            sums = new long[INITIAL_GROUPS];
+            return 0;
+        }
+        long lastGroup = (long) firstGroup + counts.length - 1;
+        long newFirst = Math.min(firstGroup, group);
+        long newLast = Math.max(lastGroup, group);
+        int newLength = Math.toIntExact(Math.max(newLast - newFirst + 1, Math.min(2L * counts.length, Integer.MAX_VALUE - 8)));
+        if (group < firstGroup) {
+            newFirst = Math.max(Integer.MIN_VALUE, newLast - newLength + 1);
+        }
+        int shift = (int) (firstGroup - newFirst);
+        counts = shift(counts, shift, newLength);
+        sums = shift(sums, shift, newLength);
+        if (overflows != null) {
+            BigInteger[] shifted = new BigInteger[newLength];
+            System.arraycopy(overflows, 0, shifted, shift, overflows.length);
+            overflows = shifted;
+        }
+        firstGroup = (int) newFirst;
+        return group - firstGroup;
+    }
+
+    private static long[] shift(long[] values, int shift, int length) {
+        long[] shifted = new long[length];
+        System.arraycopy(values, 0, shifted, shift, values.length);
+        return shifted;
+    }
+}
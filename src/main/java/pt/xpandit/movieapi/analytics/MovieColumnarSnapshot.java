@@ -0,0 +1,264 @@
+package pt.xpandit.movieapi.analytics;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import pt.xpandit.movieapi.domain.MovieFigures;
+import pt.xpandit.movieapi.repository.MovieRepository;
+import pt.xpandit.movieapi.service.event.MovieChangedEvent;
+import pt.xpandit.movieapi.service.event.MoviesImportedEvent;
+
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * Columnar in-memory copy of the numeric movie attributes used by the analytics endpoints.
+ * Launch dates are kept as epoch days and years, ranks as tenths and revenues as cents in primitive arrays,
+ * so aggregates are computed with exact integer arithmetic by a {@link ColumnScanner}.
+ * The snapshot is loaded on startup and kept up to date from committed {@link MovieChangedEvent}s.
+ * Reloads build new columns without holding the lock and swap them in once complete, so readers are never
+ * blocked for longer than a single change.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "movie.analytics.enabled", havingValue = "true")
+public class MovieColumnarSnapshot {
+
+    private static final int LOAD_BATCH_SIZE = 10_000;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final MovieRepository movieRepository;
+    private final ColumnScanner scanner;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Columns columns = new Columns();
+    private List<MovieChangedEvent> changesDuringLoad;
+
+    public MovieColumnarSnapshot(MovieRepository movieRepository) {
+        this.movieRepository = movieRepository;
+        this.scanner = ColumnScanner.best();
+    }
+
+    /**
+     * Loads every movie in ID order, one batch at a time, into new columns that replace the current ones.
+     * Readers keep scanning the current columns during the load. Changes committed while it runs are applied
+     * to the current columns and recorded, then replayed onto the new columns before they are swapped in,
+     * so none is lost even if its batch was read before the commit.
+     */
+    @PostConstruct
+    public synchronized void load() {
+        lock.writeLock().lock();
+        try {
+            changesDuringLoad = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        Columns loaded = new Columns();
+        try {
+            long lastId = 0;
+            List<MovieFigures> batch;
+            do {
+                batch = movieRepository.findFiguresByIdGreaterThan(lastId, Limit.of(LOAD_BATCH_SIZE));
+                batch.forEach(loaded::upsert);
+                if (!batch.isEmpty()) {
+                    lastId = batch.get(batch.size() - 1).id();
+                }
+            } while (batch.size() == LOAD_BATCH_SIZE);
+        } catch (RuntimeException ex) {
+            lock.writeLock().lock();
+            try {
+                changesDuringLoad = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw ex;
+        }
+
+        lock.writeLock().lock();
+        try {
+            changesDuringLoad.forEach(loaded::apply);
+            changesDuringLoad = null;
+            columns = loaded;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Movie columnar snapshot loaded with {} rows using {}", loaded.size, scanner.getClass().getSimpleName());
+    }
+
+    /**
+     * Applies a committed movie change to the snapshot.
+     *
+     * @param event The change published by the MovieService
+     */
+    @TransactionalEventListener
+    public void onMovieChanged(MovieChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            columns.apply(event);
+            if (changesDuringLoad != null) {
+                changesDuringLoad.add(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Reloads the whole snapshot after a bulk import. Reads are answered from the previous columns until
+     * the reload completes. A failed reload is logged and leaves the previous columns in place,
+     * so it does not fail the import nor keep other listeners from running.
+     *
+     * @param event The import that was merged into the movie table
+     */
+    @EventListener
+    public void onMoviesImported(MoviesImportedEvent event) {
+        try {
+            load();
+        } catch (RuntimeException ex) {
+            log.error("Failed to reload movie columnar snapshot after import, keeping the previous one", ex);
+        }
+    }
+
+    /**
+     * Scans available to a reader of the snapshot.
+     */
+    public interface View {
+
+        /**
+         * @param filter The filter rows must match
+         * @return ColumnAggregate of the matching rows
+         */
+        ColumnAggregate aggregate(ColumnFilter filter);
+
+        /**
+         * @param filter The filter rows must match
+         * @return ColumnGroups of the matching rows keyed by launch year
+         */
+        ColumnGroups aggregateByYear(ColumnFilter filter);
+
+        /**
+         * @param filter     The filter rows must match
+         * @param minRevenue The lowest revenue of the first bucket, in cents
+         * @param width      The width of each bucket, in cents
+         * @param buckets    The number of buckets
+         * @return ColumnGroups of the matching rows keyed by revenue bucket
+         */
+        ColumnGroups aggregateByRevenueBucket(ColumnFilter filter, long minRevenue, long width, int buckets);
+    }
+
+    /**
+     * Runs a read against a consistent view of the snapshot.
+     * The reader may scan the view any number of times; no change is applied to the snapshot until the reader returns.
+     *
+     * @param reader Function computing a result from scans of the snapshot
+     * @param <T>    The type of the result
+     * @return The result computed by the reader
+     */
+    public <T> T read(Function<View, T> reader) {
+        lock.readLock().lock();
+        try {
+            Columns current = columns;
+            return reader.apply(new View() {
+                @Override
+                public ColumnAggregate aggregate(ColumnFilter filter) {
+                    return scanner.aggregate(current.epochDays, current.rankTenths, current.revenueCents, current.size, filter);
+                }
+
+                @Override
+                public ColumnGroups aggregateByYear(ColumnFilter filter) {
+                    return scanner.aggregateByYear(current.epochDays, current.launchYears, current.revenueCents, current.size, filter);
+                }
+
+                @Override
+                public ColumnGroups aggregateByRevenueBucket(ColumnFilter filter, long minRevenue, long width, int buckets) {
+                    return scanner.aggregateByRevenueBucket(current.epochDays, current.revenueCents, current.size, filter,
+                            minRevenue, width, buckets);
+                }
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * The column arrays and the row of each movie ID. Not thread-safe: the published instance is only
+     * accessed with the lock held, while a loading instance is confined to the loading thread until published.
+     */
+    private static final class Columns {
+
+        private final Map<Long, Integer> rowById = new HashMap<>();
+        private long[] ids = new long[INITIAL_CAPACITY];
+        private int[] epochDays = new int[INITIAL_CAPACITY];
+        private int[] launchYears = new int[INITIAL_CAPACITY];
+        private short[] rankTenths = new short[INITIAL_CAPACITY];
+        private long[] revenueCents = new long[INITIAL_CAPACITY];
+        private int size;
+
+        private void apply(MovieChangedEvent event) {
+            if (event.type() == MovieChangedEvent.Type.DELETED) {
+                remove(event.figures().id());
+            } else {
+                upsert(event.figures());
+            }
+        }
+
+        /**
+         * Inserts or overwrites the row of a movie.
+         * Values are rounded the same way the database rounds them on insert.
+         */
+        private void upsert(MovieFigures figures) {
+            Integer row = rowById.get(figures.id());
+            if (row == null) {
+                ensureCapacity(size + 1);
+                row = size++;
+                rowById.put(figures.id(), row);
+            }
+            ids[row] = figures.id();
+            epochDays[row] = Math.toIntExact(figures.launchDate().toEpochDay());
+            launchYears[row] = figures.launchDate().getYear();
+            rankTenths[row] = figures.rank().setScale(1, RoundingMode.HALF_UP).unscaledValue().shortValueExact();
+            revenueCents[row] = figures.revenue().setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+        }
+
+        /**
+         * Removes the row of a movie by moving the last row into its place.
+         */
+        private void remove(Long id) {
+            Integer row = rowById.remove(id);
+            if (row == null) {
+                return;
+            }
+            int last = --size;
+            if (row != last) {
+                ids[row] = ids[last];
+                epochDays[row] = epochDays[last];
+                launchYears[row] = launchYears[last];
+                rankTenths[row] = rankTenths[last];
+                revenueCents[row] = revenueCents[last];
+                rowById.put(ids[row], row);
+            }
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (capacity <= ids.length) {
+                return;
+            }
+            int newCapacity = Math.max(capacity, ids.length + (ids.length >> 1));
+            ids = Arrays.copyOf(ids, newCapacity);
+            epochDays = Arrays.copyOf(epochDays, newCapacity);
+            launchYears = Arrays.copyOf(launchYears, newCapacity);
+            rankTenths = Arrays.copyOf(rankTenths, newCapacity);
+            revenueCents = Arrays.copyOf(revenueCents, newCapacity);
+        }
+    }
+}
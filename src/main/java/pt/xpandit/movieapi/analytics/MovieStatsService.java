@@ -0,0 +1,124 @@
+package pt.xpandit.movieapi.analytics;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import pt.xpandit.movieapi.dto.response.RankStatsResponse;
+import pt.xpandit.movieapi.dto.response.RevenueBucketResponse;
+import pt.xpandit.movieapi.dto.response.YearRevenueResponse;
+import pt.xpandit.movieapi.exception.InvalidQueryException;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Service answering aggregate queries over movies from the columnar snapshot.
+ * Every result matches the equivalent SQL query over the movie table, given in each method.
+ */
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "movie.analytics.enabled", havingValue = "true")
+public class MovieStatsService {
+
+    private final MovieColumnarSnapshot snapshot;
+
+    /**
+     * Computes the number of movies and total revenue per launch year.
+     * Equivalent to {@code SELECT EXTRACT(YEAR FROM launch_date), COUNT(*), SUM(revenue) FROM movie
+     * WHERE launch_date BETWEEN :startDate AND :endDate GROUP BY 1 ORDER BY 1}.
+     *
+     * @param startDate The start of the launch date range, or null for no lower bound
+     * @param endDate The end of the launch date range, or null for no upper bound
+     * @return List of YearRevenueResponse ordered by year, only for years with movies
+     * @throws InvalidQueryException if endDate is before startDate
+     */
+    public List<YearRevenueResponse> revenueByYear(LocalDate startDate, LocalDate endDate) {
+        ColumnFilter filter = toFilter(startDate, endDate);
+        ColumnGroups groups = snapshot.read(view -> view.aggregateByYear(filter));
+        List<YearRevenueResponse> years = new ArrayList<>();
+        for (int i = 0; i < groups.size(); i++) {
+            if (groups.counts()[i] > 0) {
+                years.add(new YearRevenueResponse(groups.group(i), groups.counts()[i], toRevenue(groups.revenueSums()[i])));
+            }
+        }
+        return years;
+    }
+
+    /**
+     * Computes rank statistics for the movies launched in a date range.
+     * Equivalent to {@code SELECT COUNT(*), ROUND(AVG(rank), 2), MIN(rank), MAX(rank) FROM movie
+     * WHERE launch_date BETWEEN :startDate AND :endDate}.
+     *
+     * @param startDate The start of the launch date range, or null for no lower bound
+     * @param endDate The end of the launch date range, or null for no upper bound
+     * @return RankStatsResponse for the movies in the range
+     * @throws InvalidQueryException if endDate is before startDate
+     */
+    public RankStatsResponse rankStats(LocalDate startDate, LocalDate endDate) {
+        ColumnFilter filter = toFilter(startDate, endDate);
+        ColumnAggregate aggregate = snapshot.read(view -> view.aggregate(filter));
+        if (aggregate.count() == 0) {
+            return new RankStatsResponse(0, null, null, null);
+        }
+        BigDecimal averageRank = BigDecimal.valueOf(aggregate.rankSum())
+                .divide(BigDecimal.valueOf(aggregate.count() * 10), 2, RoundingMode.HALF_UP);
+        return new RankStatsResponse(aggregate.count(), averageRank,
+                BigDecimal.valueOf(aggregate.minRank(), 1), BigDecimal.valueOf(aggregate.maxRank(), 1));
+    }
+
+    /**
+     * Computes a histogram of the revenue of the movies launched in a date range.
+     * The range between the lowest and highest revenue is split into buckets of equal width,
+     * with the last bucket possibly narrower. The range is found by a first scan and every bucket is counted by a second one.
+     * Each bucket is equivalent to {@code SELECT COUNT(*) FROM movie
+     * WHERE launch_date BETWEEN :startDate AND :endDate AND revenue BETWEEN :from AND :to}.
+     *
+     * @param startDate The start of the launch date range, or null for no lower bound
+     * @param endDate The end of the launch date range, or null for no upper bound
+     * @param buckets The maximum number of buckets
+     * @return List of RevenueBucketResponse ordered by revenue, empty if no movie matches
+     * @throws InvalidQueryException if endDate is before startDate
+     */
+    public List<RevenueBucketResponse> revenueHistogram(LocalDate startDate, LocalDate endDate, int buckets) {
+        ColumnFilter filter = toFilter(startDate, endDate);
+        return snapshot.read(view -> {
+            ColumnAggregate total = view.aggregate(filter);
+            List<RevenueBucketResponse> histogram = new ArrayList<>();
+            if (total.count() == 0) {
+                return histogram;
+            }
+            long min = total.minRevenue();
+            long max = total.maxRevenue();
+            long width = Math.max(1, Math.ceilDiv(max - min + 1, buckets));
+            int bucketCount = Math.toIntExact(Math.ceilDiv(max - min + 1, width));
+            ColumnGroups groups = view.aggregateByRevenueBucket(filter, min, width, bucketCount);
+            for (int i = 0; i < bucketCount; i++) {
+                long from = min + i * width;
+                long to = Math.min(max, from + width - 1);
+                histogram.add(new RevenueBucketResponse(toRevenue(from), toRevenue(to), groups.counts()[i]));
+            }
+            return histogram;
+        });
+    }
+
+    private ColumnFilter toFilter(LocalDate startDate, LocalDate endDate) {
+        if (startDate != null && endDate != null && endDate.isBefore(startDate)) {
+            throw new InvalidQueryException("Invalid launchDate range: minimum is greater than maximum");
+        }
+        int fromDay = startDate == null ? Integer.MIN_VALUE : Math.toIntExact(startDate.toEpochDay());
+        int toDay = endDate == null ? Integer.MAX_VALUE : Math.toIntExact(endDate.toEpochDay());
+        return new ColumnFilter(fromDay, toDay);
+    }
+
+    private BigDecimal toRevenue(long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
+
+    private BigDecimal toRevenue(BigInteger cents) {
+        return new BigDecimal(cents, 2);
+    }
+}
@@ -0,0 +1,34 @@
+package pt.xpandit.movieapi.analytics;
+
+/**
+ * Plain loop implementation of the column scan, used when the Vector API is not available.
+ */
+public class ScalarColumnScanner implements ColumnScanner {
+
+    @Override
+    public ColumnAggregate aggregate(int[] epochDays, short[] rankTenths, long[] revenueCents, int length, ColumnFilter filter) {
+        long count = 0;
+        ExactSum revenueSum = new ExactSum();
+        long rankSum = 0;
+        long minRank = Long.MAX_VALUE;
+        long maxRank = Long.MIN_VALUE;
+        long minRevenue = Long.MAX_VALUE;
+        long maxRevenue = Long.MIN_VALUE;
+
+        for (int i = 0; i < length; i++) {
+            if (!filter.matches(epochDays[i])) {
+                continue;
+            }
+            long revenue = revenueCents[i];
+            long rank = rankTenths[i];
+            count++;
+            revenueSum.add(revenue);
+            rankSum += rank;
+            minRank = Math.min(minRank, rank);
+            maxRank = Math.max(maxRank, rank);
+            minRevenue = Math.min(minRevenue, revenue);
+            maxRevenue = Math.max(maxRevenue, revenue);
+        }
+        return new ColumnAggregate(count, revenueSum.toBigInteger(), rankSum, minRank, maxRank, minRevenue, maxRevenue);
+    }
+}
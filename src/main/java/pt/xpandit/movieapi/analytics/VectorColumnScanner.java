@@ -0,0 +1,110 @@
+package pt.xpandit.movieapi.analytics;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * SIMD implementation of the column scan using the incubating Vector API.
+ * The three columns are processed with species of the same lane count, so a single
+ * mask built from the launch date comparisons selects the rows of every column.
+ * Revenue is summed per lane and checked for overflow on every step; lanes about to overflow
+ * are moved into an exact sum and restarted, so the result is exact without slowing down the common case.
+ * Requires the JVM to be started with {@code --add-modules jdk.incubator.vector}.
+ */
+public class VectorColumnScanner implements ColumnScanner {
+
+    private static final VectorSpecies<Long> LONG = LongVector.SPECIES_PREFERRED;
+
+    private final VectorSpecies<Integer> intSpecies;
+    private final VectorSpecies<Short> shortSpecies;
+
+    /**
+     * Creates the scanner for the preferred vector shape of the platform.
+     *
+     * @throws IllegalArgumentException if the platform has no vector shape for the matching int or short lanes
+     */
+    public VectorColumnScanner() {
+        int lanes = LONG.length();
+        this.intSpecies = VectorSpecies.of(int.class, VectorShape.forBitSize(lanes * Integer.SIZE));
+        this.shortSpecies = VectorSpecies.of(short.class, VectorShape.forBitSize(lanes * Short.SIZE));
+    }
+
+    @Override
+    public ColumnAggregate aggregate(int[] epochDays, short[] rankTenths, long[] revenueCents, int length, ColumnFilter filter) {
+        long count = 0;
+        ExactSum exactRevenue = new ExactSum();
+        LongVector revenueSum = LongVector.zero(LONG);
+        LongVector rankSum = LongVector.zero(LONG);
+        LongVector minRank = LongVector.broadcast(LONG, Long.MAX_VALUE);
+        LongVector maxRank = LongVector.broadcast(LONG, Long.MIN_VALUE);
+        LongVector minRevenue = LongVector.broadcast(LONG, Long.MAX_VALUE);
+        LongVector maxRevenue = LongVector.broadcast(LONG, Long.MIN_VALUE);
+
+        int i = 0;
+        int upperBound = LONG.loopBound(length);
+        for (; i < upperBound; i += LONG.length()) {
+            IntVector days = IntVector.fromArray(intSpecies, epochDays, i);
+            VectorMask<Long> mask = days.compare(VectorOperators.GE, filter.fromDay())
+                    .and(days.compare(VectorOperators.LE, filter.toDay()))
+                    .cast(LONG);
+            if (!mask.anyTrue()) {
+                continue;
+            }
+            LongVector revenues = LongVector.fromArray(LONG, revenueCents, i);
+            LongVector ranks = (LongVector) ShortVector.fromArray(shortSpecies, rankTenths, i)
+                    .convertShape(VectorOperators.S2L, LONG, 0);
+
+            count += mask.trueCount();
+            LongVector nextRevenueSum = revenueSum.add(revenues, mask);
+            // A lane overflowed if the result has the opposite sign of both operands
+            if (revenueSum.lanewise(VectorOperators.XOR, nextRevenueSum)
+                    .and(revenues.lanewise(VectorOperators.XOR, nextRevenueSum))
+                    .compare(VectorOperators.LT, 0)
+                    .anyTrue()) {
+                addLanes(exactRevenue, revenueSum);
+                nextRevenueSum = LongVector.zero(LONG).blend(revenues, mask);
+            }
+            revenueSum = nextRevenueSum;
+            rankSum = rankSum.add(ranks, mask);
+            minRank = minRank.lanewise(VectorOperators.MIN, ranks, mask);
+            maxRank = maxRank.lanewise(VectorOperators.MAX, ranks, mask);
+            minRevenue = minRevenue.lanewise(VectorOperators.MIN, revenues, mask);
+            maxRevenue = maxRevenue.lanewise(VectorOperators.MAX, revenues, mask);
+        }
+
+        addLanes(exactRevenue, revenueSum);
+        long totalRank = rankSum.reduceLanes(VectorOperators.ADD);
+        long lowestRank = minRank.reduceLanes(VectorOperators.MIN);
+        long highestRank = maxRank.reduceLanes(VectorOperators.MAX);
+        long lowestRevenue = minRevenue.reduceLanes(VectorOperators.MIN);
+        long highestRevenue = maxRevenue.reduceLanes(VectorOperators.MAX);
+
+        for (; i < length; i++) {
+            if (!filter.matches(epochDays[i])) {
+                continue;
+            }
+            long revenue = revenueCents[i];
+            long rank = rankTenths[i];
+            count++;
+            exactRevenue.add(revenue);
+            totalRank += rank;
+            lowestRank = Math.min(lowestRank, rank);
+            highestRank = Math.max(highestRank, rank);
+            lowestRevenue = Math.min(lowestRevenue, revenue);
+            highestRevenue = Math.max(highestRevenue, revenue);
+        }
+        return new ColumnAggregate(count, exactRevenue.toBigInteger(), totalRank, lowestRank, highestRank,
+                lowestRevenue, highestRevenue);
+    }
+
+    private static void addLanes(ExactSum sum, LongVector lanes) {
+        for (int lane = 0; lane < lanes.length(); lane++) {
+            sum.add(lanes.lane(lane));
+        }
+    }
+}
@@ -10,8 +10,11 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import pt.xpandit.movieapi.domain.Movie;
+import pt.xpandit.movieapi.dto.request.MovieQueryRequest;
 import pt.xpandit.movieapi.dto.request.MovieRequest;
 import pt.xpandit.movieapi.dto.response.MovieResponse;
+import pt.xpandit.movieapi.dto.response.PageResponse;
+import pt.xpandit.movieapi.exception.InvalidQueryException;
 import pt.xpandit.movieapi.exception.MovieNotFoundException;
 import pt.xpandit.movieapi.service.MovieService;
 
@@ -76,6 +79,21 @@ public class MovieController {
         return ResponseEntity.ok(movieService.findByLaunchDateRange(startDate, endDate));
     }
 
+    /**
+     * Retrieves movies matching multiple criteria over title, launch date, rank and revenue.
+     * Results are paginated and can be sorted by several keys, e.g. {@code sort=revenue:desc,title}.
+     *
+     * @param query the criteria, sort keys and page to retrieve
+     * @return ResponseEntity containing the requested page of movies and HTTP 200 status
+     *         Returns an empty page if no movies match the criteria
+     * @throws InvalidQueryException if a range is inverted or a sort key is not supported
+     */
+    @GetMapping("/query")
+    @Operation(summary = "Query movies by multiple criteria")
+    public ResponseEntity<PageResponse<MovieResponse>> query(@Valid @ModelAttribute MovieQueryRequest query) {
+        return ResponseEntity.ok(movieService.query(query));
+    }
+
     /**
      * Retrieves a specific movie by its ID.
      *
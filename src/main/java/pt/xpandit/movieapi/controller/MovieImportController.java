@@ -0,0 +1,54 @@
+package pt.xpandit.movieapi.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import pt.xpandit.movieapi.dto.request.MovieImportRequest;
+import pt.xpandit.movieapi.dto.response.MovieImportResponse;
+import pt.xpandit.movieapi.exception.MovieImportException;
+import pt.xpandit.movieapi.importer.MovieImportService;
+
+import java.util.UUID;
+
+/**
+ * REST controller for bulk imports of movies from CSV files.
+ */
+@RestController
+@RequestMapping("/api/v1/movies/import")
+@RequiredArgsConstructor
+@Tag(name = "Movie import", description = "Movie bulk import API")
+public class MovieImportController {
+
+    private final MovieImportService movieImportService;
+
+    /**
+     * Starts importing a CSV file from the import directory in the background.
+     *
+     * @param movieImportRequest the file to import
+     * @return ResponseEntity containing the import progress and HTTP 202 status
+     * @throws MovieImportException if the file does not exist or another import is running
+     */
+    @PostMapping
+    @Operation(summary = "Start a movie import from a CSV file")
+    public ResponseEntity<MovieImportResponse> start(@RequestBody @Valid MovieImportRequest movieImportRequest) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(MovieImportResponse.of(movieImportService.start(movieImportRequest.file())));
+    }
+
+    /**
+     * Retrieves the progress of an import.
+     *
+     * @param id the unique identifier of the import job
+     * @return ResponseEntity containing the import progress and HTTP 200 status
+     * @throws MovieImportException if no import job is found with the given ID
+     */
+    @GetMapping("/{id}")
+    @Operation(summary = "Get the progress of a movie import")
+    public ResponseEntity<MovieImportResponse> getImport(@PathVariable(value = "id") UUID id) {
+        return ResponseEntity.ok(MovieImportResponse.of(movieImportService.findJob(id)));
+    }
+}
@@ -0,0 +1,94 @@
+package pt.xpandit.movieapi.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import pt.xpandit.movieapi.analytics.MovieStatsService;
+import pt.xpandit.movieapi.dto.response.RankStatsResponse;
+import pt.xpandit.movieapi.dto.response.RevenueBucketResponse;
+import pt.xpandit.movieapi.dto.response.YearRevenueResponse;
+import pt.xpandit.movieapi.exception.InvalidQueryException;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * REST controller exposing aggregate statistics over movies.
+ * Only available when {@code movie.analytics.enabled=true}.
+ */
+@RestController
+@RequestMapping("/api/v1/movies/stats")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "movie.analytics.enabled", havingValue = "true")
+@Tag(name = "Movie statistics", description = "Movie analytics API")
+public class MovieStatsController {
+
+    private final MovieStatsService movieStatsService;
+
+    /**
+     * Retrieves the number of movies and total revenue per launch year.
+     *
+     * @param startDate the optional start of the launch date range (yyyy-MM-dd)
+     * @param endDate   the optional end of the launch date range (yyyy-MM-dd)
+     * @return ResponseEntity containing the revenue per year and HTTP 200 status
+     * @throws InvalidQueryException if endDate is before startDate
+     */
+    @GetMapping("/revenue-by-year")
+    @Operation(summary = "Total revenue per launch year")
+    public ResponseEntity<List<YearRevenueResponse>> revenueByYear(
+            @Parameter(description = "Start date (yyyy-MM-dd)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "End date (yyyy-MM-dd)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        return ResponseEntity.ok(movieStatsService.revenueByYear(startDate, endDate));
+    }
+
+    /**
+     * Retrieves rank statistics for the movies launched in a date range.
+     *
+     * @param startDate the optional start of the launch date range (yyyy-MM-dd)
+     * @param endDate   the optional end of the launch date range (yyyy-MM-dd)
+     * @return ResponseEntity containing the rank statistics and HTTP 200 status
+     * @throws InvalidQueryException if endDate is before startDate
+     */
+    @GetMapping("/rank")
+    @Operation(summary = "Rank statistics for a launch date range")
+    public ResponseEntity<RankStatsResponse> rankStats(
+            @Parameter(description = "Start date (yyyy-MM-dd)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "End date (yyyy-MM-dd)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        return ResponseEntity.ok(movieStatsService.rankStats(startDate, endDate));
+    }
+
+    /**
+     * Retrieves a histogram of the revenue of the movies launched in a date range.
+     *
+     * @param startDate the optional start of the launch date range (yyyy-MM-dd)
+     * @param endDate   the optional end of the launch date range (yyyy-MM-dd)
+     * @param buckets   the maximum number of buckets, between 1 and 100
+     * @return ResponseEntity containing the histogram buckets and HTTP 200 status
+     * @throws InvalidQueryException if endDate is before startDate
+     */
+    @GetMapping("/revenue-histogram")
+    @Operation(summary = "Revenue histogram for a launch date range")
+    public ResponseEntity<List<RevenueBucketResponse>> revenueHistogram(
+            @Parameter(description = "Start date (yyyy-MM-dd)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "End date (yyyy-MM-dd)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @Parameter(description = "Number of buckets (1-100)")
+            @RequestParam(defaultValue = "10") @Min(1) @Max(100) int buckets) {
+        return ResponseEntity.ok(movieStatsService.revenueHistogram(startDate, endDate, buckets));
+    }
+}
@@ -0,0 +1,15 @@
+package pt.xpandit.movieapi.domain;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Projection of the numeric attributes of a movie, used to load analytics data without loading full entities.
+ *
+ * @param id         The unique identifier of the movie.
+ * @param launchDate The launch date of the movie.
+ * @param rank       The ranking of the movie.
+ * @param revenue    The revenue generated by the movie.
+ */
+public record MovieFigures(Long id, LocalDate launchDate, BigDecimal rank, BigDecimal revenue) {
+}
@@ -0,0 +1,13 @@
+package pt.xpandit.movieapi.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * Represents a request to import movies from a CSV file.
+ *
+ * @param file The name of the CSV file, relative to the configured import directory.
+ */
+public record MovieImportRequest(
+    @NotBlank(message = "The file is required")
+    String file
+) {}
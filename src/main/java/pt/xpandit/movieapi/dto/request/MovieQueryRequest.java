@@ -0,0 +1,74 @@
+package pt.xpandit.movieapi.dto.request;
+
+import jakarta.validation.constraints.*;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Represents a multi-criteria query over movies.
+ * Every criterion is optional and all given criteria must match.
+ *
+ * @param title          Exact title of the movie.
+ * @param titlePrefix    Prefix the title must start with.
+ * @param launchDate     Exact launch date of the movie.
+ * @param launchDateFrom Earliest launch date, inclusive.
+ * @param launchDateTo   Latest launch date, inclusive.
+ * @param rank           Exact ranking of the movie.
+ * @param rankMin        Minimum ranking, inclusive.
+ * @param rankMax        Maximum ranking, inclusive.
+ * @param revenue        Exact revenue of the movie.
+ * @param revenueMin     Minimum revenue, inclusive.
+ * @param revenueMax     Maximum revenue, inclusive.
+ * @param sort           Sort keys in the form {@code field} or {@code field:asc|desc}, applied in order.
+ * @param page           Zero-based page index.
+ * @param size           Page size.
+ */
+public record MovieQueryRequest(
+    String title,
+
+    @Size(min = 1, max = 255, message = "Title prefix must have between 1 and 255 characters")
+    String titlePrefix,
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    LocalDate launchDate,
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    LocalDate launchDateFrom,
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    LocalDate launchDateTo,
+
+    @DecimalMin(value = "0.0", message = "Rank must be between 0 and 10")
+    @DecimalMax(value = "10.0", message = "Rank must be between 0 and 10")
+    BigDecimal rank,
+
+    @DecimalMin(value = "0.0", message = "Rank must be between 0 and 10")
+    @DecimalMax(value = "10.0", message = "Rank must be between 0 and 10")
+    BigDecimal rankMin,
+
+    @DecimalMin(value = "0.0", message = "Rank must be between 0 and 10")
+    @DecimalMax(value = "10.0", message = "Rank must be between 0 and 10")
+    BigDecimal rankMax,
+
+    @PositiveOrZero(message = "Revenue must be zero or positive")
+    BigDecimal revenue,
+
+    @PositiveOrZero(message = "Revenue must be zero or positive")
+    BigDecimal revenueMin,
+
+    @PositiveOrZero(message = "Revenue must be zero or positive")
+    BigDecimal revenueMax,
+
+    @Size(max = 4, message = "At most 4 sort keys are allowed")
+    List<String> sort,
+
+    @PositiveOrZero(message = "Page must be zero or positive")
+    Integer page,
+
+    @Min(value = 1, message = "Page size must be between 1 and 100")
+    @Max(value = 100, message = "Page size must be between 1 and 100")
+    Integer size
+) {}
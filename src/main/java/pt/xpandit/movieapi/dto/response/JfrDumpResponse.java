@@ -0,0 +1,14 @@
+package pt.xpandit.movieapi.dto.response;
+
+import java.time.Instant;
+
+/**
+ * Represents a dump of the continuous JFR recording.
+ *
+ * @param file      The name of the dump file in the dump directory.
+ * @param from      The start of the dumped period.
+ * @param to        The end of the dumped period.
+ * @param sizeBytes The size of the dump file.
+ */
+public record JfrDumpResponse(String file, Instant from, Instant to, long sizeBytes) {
+}
@@ -0,0 +1,70 @@
+package pt.xpandit.movieapi.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import pt.xpandit.movieapi.importer.MovieImportJob;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Represents the progress of a movie import.
+ *
+ * @param id             The unique identifier of the import job.
+ * @param state          The current state of the import.
+ * @param file           The name of the imported file.
+ * @param totalBytes     The size of the file.
+ * @param processedBytes The number of bytes parsed so far.
+ * @param rowsRead       The number of lines parsed so far.
+ * @param rowsAccepted   The number of valid lines copied into the staging table.
+ * @param rowsRejected   The number of invalid lines.
+ * @param rowsMerged     The number of movies inserted or updated, once completed.
+ * @param rejectsFile    The file listing every rejected line.
+ * @param sampleRejects  The first rejected lines.
+ * @param startedAt      The time the import started.
+ * @param finishedAt     The time the import completed or failed.
+ * @param error          The reason of the failure, if the import failed.
+ */
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record MovieImportResponse(UUID id,
+                                  MovieImportJob.State state,
+                                  String file,
+                                  long totalBytes,
+                                  long processedBytes,
+                                  long rowsRead,
+                                  long rowsAccepted,
+                                  long rowsRejected,
+                                  long rowsMerged,
+                                  String rejectsFile,
+                                  List<MovieImportJob.RejectedRow> sampleRejects,
+                                  LocalDateTime startedAt,
+                                  LocalDateTime finishedAt,
+                                  String error) {
+
+    /**
+     * Creates a MovieImportResponse from the current progress of a job.
+     *
+     * @param job The import job
+     * @return MovieImportResponse with the job progress
+     */
+    public static MovieImportResponse of(MovieImportJob job) {
+        return MovieImportResponse.builder()
+                .id(job.getId())
+                .state(job.getState())
+                .file(job.getFile().getFileName().toString())
+                .totalBytes(job.getTotalBytes())
+                .processedBytes(job.getProcessedBytes().get())
+                .rowsRead(job.getRowsRead().get())
+                .rowsAccepted(job.getRowsAccepted().get())
+                .rowsRejected(job.getRowsRejected().get())
+                .rowsMerged(job.getRowsMerged())
+                .rejectsFile(job.getRejectsFile().getFileName().toString())
+                .sampleRejects(job.getSampleRejects())
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .error(job.getError())
+                .build();
+    }
+}
@@ -0,0 +1,29 @@
+package pt.xpandit.movieapi.dto.response;
+
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+/**
+ * Represents a single page of results.
+ * The total number of matching elements is not computed, as counting them would read every matching row.
+ *
+ * @param content The elements of the current page.
+ * @param page    The zero-based index of the current page.
+ * @param size    The requested page size.
+ * @param hasNext Whether a next page exists.
+ * @param <T>     The type of the page elements.
+ */
+public record PageResponse<T>(List<T> content, int page, int size, boolean hasNext) {
+
+    /**
+     * Creates a PageResponse from a Spring Data slice.
+     *
+     * @param slice The slice to convert
+     * @param <T>   The type of the slice elements
+     * @return PageResponse with the same content and paging information
+     */
+    public static <T> PageResponse<T> of(Slice<T> slice) {
+        return new PageResponse<>(slice.getContent(), slice.getNumber(), slice.getSize(), slice.hasNext());
+    }
+}
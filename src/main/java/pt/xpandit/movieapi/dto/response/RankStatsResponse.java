@@ -0,0 +1,15 @@
+package pt.xpandit.movieapi.dto.response;
+
+import java.math.BigDecimal;
+
+/**
+ * Represents rank statistics over a set of movies.
+ * Average, minimum and maximum are null when no movie matches.
+ *
+ * @param count       The number of movies.
+ * @param averageRank The average rank, rounded half up to two decimal places.
+ * @param minRank     The lowest rank.
+ * @param maxRank     The highest rank.
+ */
+public record RankStatsResponse(long count, BigDecimal averageRank, BigDecimal minRank, BigDecimal maxRank) {
+}
@@ -0,0 +1,13 @@
+package pt.xpandit.movieapi.dto.response;
+
+import java.math.BigDecimal;
+
+/**
+ * Represents a bucket of a revenue histogram.
+ *
+ * @param from  The lowest revenue of the bucket, inclusive.
+ * @param to    The highest revenue of the bucket, inclusive.
+ * @param count The number of movies with a revenue in the bucket.
+ */
+public record RevenueBucketResponse(BigDecimal from, BigDecimal to, long count) {
+}
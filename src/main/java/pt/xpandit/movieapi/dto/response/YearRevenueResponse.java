@@ -0,0 +1,13 @@
+package pt.xpandit.movieapi.dto.response;
+
+import java.math.BigDecimal;
+
+/**
+ * Represents the revenue of the movies launched in a year.
+ *
+ * @param year         The launch year.
+ * @param count        The number of movies launched in the year.
+ * @param totalRevenue The total revenue of those movies.
+ */
+public record YearRevenueResponse(int year, long count, BigDecimal totalRevenue) {
+}
@@ -0,0 +1,10 @@
+package pt.xpandit.movieapi.exception;
+
+/**
+ * Thrown when a movie query has inconsistent criteria or unsupported sort keys.
+ */
+public class InvalidQueryException extends RuntimeException {
+    public InvalidQueryException(String message) {
+        super(message, null, false, false);
+    }
+}
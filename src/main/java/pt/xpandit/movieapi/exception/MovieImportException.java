@@ -0,0 +1,18 @@
+package pt.xpandit.movieapi.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Thrown when a movie import cannot be started or its job cannot be found.
+ */
+@Getter
+public class MovieImportException extends RuntimeException {
+
+    private final HttpStatus status;
+
+    public MovieImportException(HttpStatus status, String message) {
+        super(message, null, false, false);
+        this.status = status;
+    }
+}
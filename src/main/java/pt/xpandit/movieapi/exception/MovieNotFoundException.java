@@ -1,11 +1,15 @@
 package pt.xpandit.movieapi.exception;
 
+/**
+ * Thrown when a requested movie does not exist.
+ * It is always translated into a 404 response, so no stack trace is captured.
+ */
 public class MovieNotFoundException extends RuntimeException {
     public MovieNotFoundException() {
-        super("Movie not found");
+        this("Movie not found");
     }
 
     public MovieNotFoundException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 }
@@ -9,6 +9,8 @@ import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
+import pt.xpandit.movieapi.exception.InvalidQueryException;
+import pt.xpandit.movieapi.exception.MovieImportException;
 import pt.xpandit.movieapi.exception.MovieNotFoundException;
 
 import java.time.LocalDateTime;
@@ -38,6 +40,40 @@ public class RestExceptionHandler extends ResponseEntityExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
     }
 
+    /**
+     * Handles {@link InvalidQueryException} by creating a custom error response.
+     * This method is called when a movie query has inconsistent criteria or unsupported sort keys.
+     *
+     * @param ex The InvalidQueryException that was thrown
+     * @return ResponseEntity containing error details and BAD_REQUEST (400) status
+     */
+    @ExceptionHandler(InvalidQueryException.class)
+    private ResponseEntity<ErrorResponse> invalidQueryHandler(InvalidQueryException ex) {
+        ErrorResponse error = ErrorResponse.builder()
+                .status(HttpStatus.BAD_REQUEST.value())
+                .message(ex.getMessage())
+                .timestamp(LocalDateTime.now())
+                .build();
+        return ResponseEntity.badRequest().body(error);
+    }
+
+    /**
+     * Handles {@link MovieImportException} by creating a custom error response.
+     * This method is called when an import cannot be started or an import job is not found.
+     *
+     * @param ex The MovieImportException that was thrown
+     * @return ResponseEntity containing error details and the status carried by the exception
+     */
+    @ExceptionHandler(MovieImportException.class)
+    private ResponseEntity<ErrorResponse> movieImportHandler(MovieImportException ex) {
+        ErrorResponse error = ErrorResponse.builder()
+                .status(ex.getStatus().value())
+                .message(ex.getMessage())
+                .timestamp(LocalDateTime.now())
+                .build();
+        return ResponseEntity.status(ex.getStatus()).body(error);
+    }
+
     /**
      * Handles validation errors that occur during request processing.
      * This method overrides the default Spring validation error handling to provide
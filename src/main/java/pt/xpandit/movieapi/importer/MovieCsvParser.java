@@ -0,0 +1,158 @@
+package pt.xpandit.movieapi.importer;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import pt.xpandit.movieapi.dto.request.MovieRequest;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Parses and validates lines of a movie CSV file.
+ * Lines have the columns {@code title,launch_date,rank,revenue}; fields may be quoted with double quotes,
+ * doubling any quote inside them, but must not contain line breaks. Unquoted fields are trimmed, while quoted
+ * fields are kept as is, so a quoted title is stored exactly as the create endpoint would store it.
+ * Rows are validated against the same rules as {@link MovieRequest}, plus the storage limits of the movie table.
+ */
+@Component
+@RequiredArgsConstructor
+public class MovieCsvParser {
+
+    private static final int COLUMNS = 4;
+    private static final int MAX_TITLE_LENGTH = 255;
+    private static final BigDecimal MAX_REVENUE = new BigDecimal("10000000000000");
+
+    private final Validator validator;
+
+    /**
+     * Parsed line of the CSV file.
+     *
+     * @param movie  The movie read from the line, null if the line could not be parsed.
+     * @param errors The parsing and validation errors, empty if the movie is valid.
+     */
+    public record ParsedRow(MovieRequest movie, List<String> errors) {
+        public boolean isValid() {
+            return errors.isEmpty();
+        }
+    }
+
+    /**
+     * Parses and validates a single CSV line.
+     *
+     * @param line The line without its line terminator
+     * @return ParsedRow with the movie and any errors found
+     */
+    public ParsedRow parse(String line) {
+        List<String> fields;
+        try {
+            fields = split(line);
+        } catch (IllegalArgumentException ex) {
+            return new ParsedRow(null, List.of(ex.getMessage()));
+        }
+        if (fields.size() != COLUMNS) {
+            return new ParsedRow(null, List.of("Expected " + COLUMNS + " columns but found " + fields.size()));
+        }
+
+        List<String> errors = new ArrayList<>();
+        Set<String> unparsedFields = new HashSet<>();
+        String title = fields.get(0).isEmpty() ? null : fields.get(0);
+        LocalDate launchDate = parseDate(fields.get(1), errors, unparsedFields);
+        BigDecimal rank = parseDecimal("rank", fields.get(2), errors, unparsedFields);
+        BigDecimal revenue = parseDecimal("revenue", fields.get(3), errors, unparsedFields);
+        MovieRequest movie = new MovieRequest(title, launchDate, rank, revenue);
+
+        validator.validate(movie).stream()
+                .filter(violation -> !unparsedFields.contains(violation.getPropertyPath().toString()))
+                .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                .map(ConstraintViolation::getMessage)
+                .forEach(errors::add);
+        if (title != null && title.length() > MAX_TITLE_LENGTH) {
+            errors.add("Title must have at most " + MAX_TITLE_LENGTH + " characters");
+        }
+        if (revenue != null && revenue.setScale(2, RoundingMode.HALF_UP).compareTo(MAX_REVENUE) >= 0) {
+            errors.add("Revenue must be lower than " + MAX_REVENUE.toPlainString());
+        }
+        return new ParsedRow(movie, errors);
+    }
+
+    /**
+     * Splits a CSV line into its fields, unquoting quoted fields and trimming unquoted ones.
+     *
+     * @param line The line to split
+     * @return List of the field values
+     * @throws IllegalArgumentException if a quoted field is not terminated or is followed by other characters
+     */
+    static List<String> split(String line) {
+        List<String> fields = new ArrayList<>(COLUMNS);
+        StringBuilder field = new StringBuilder();
+        int i = 0;
+        while (true) {
+            boolean quoted = i < line.length() && line.charAt(i) == '"';
+            if (quoted) {
+                i++;
+                while (true) {
+                    if (i >= line.length()) {
+                        throw new IllegalArgumentException("Unterminated quoted field");
+                    }
+                    char c = line.charAt(i++);
+                    if (c != '"') {
+                        field.append(c);
+                    } else if (i < line.length() && line.charAt(i) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        break;
+                    }
+                }
+                if (i < line.length() && line.charAt(i) != ',') {
+                    throw new IllegalArgumentException("Unexpected character after quoted field");
+                }
+            } else {
+                while (i < line.length() && line.charAt(i) != ',') {
+                    field.append(line.charAt(i++));
+                }
+            }
+            fields.add(quoted ? field.toString() : field.toString().trim());
+            field.setLength(0);
+            if (i >= line.length()) {
+                return fields;
+            }
+            i++;
+        }
+    }
+
+    private LocalDate parseDate(String value, List<String> errors, Set<String> unparsedFields) {
+        if (value.isEmpty()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException ex) {
+            errors.add("Invalid launch date: " + value);
+            unparsedFields.add("launchDate");
+            return null;
+        }
+    }
+
+    private BigDecimal parseDecimal(String field, String value, List<String> errors, Set<String> unparsedFields) {
+        if (value.isEmpty()) {
+            return null;
+        }
+        try {
+            return new BigDecimal(value);
+        } catch (NumberFormatException ex) {
+            errors.add("Invalid " + field + ": " + value);
+            unparsedFields.add(field);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package pt.xpandit.movieapi.importer;
+
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Progress of a single movie import. Counters are updated concurrently by the import workers.
+ */
+@Getter
+public class MovieImportJob {
+
+    static final int MAX_SAMPLE_REJECTS = 100;
+
+    public enum State {
+        RUNNING,
+        MERGING,
+        COMPLETED,
+        FAILED
+    }
+
+    /**
+     * Line of the source file that was rejected.
+     *
+     * @param offset The byte offset of the line in the file.
+     * @param line   The content of the line.
+     * @param errors The reasons why the line was rejected.
+     */
+    public record RejectedRow(long offset, String line, List<String> errors) {
+    }
+
+    private final UUID id = UUID.randomUUID();
+    private final Path file;
+    private final Path rejectsFile;
+    private final long totalBytes;
+    private final LocalDateTime startedAt = LocalDateTime.now();
+    private final AtomicLong processedBytes = new AtomicLong();
+    private final AtomicLong rowsRead = new AtomicLong();
+    private final AtomicLong rowsAccepted = new AtomicLong();
+    private final AtomicLong rowsRejected = new AtomicLong();
+    private final List<RejectedRow> sampleRejects = new ArrayList<>();
+
+    private volatile State state = State.RUNNING;
+    private volatile long rowsMerged;
+    private volatile LocalDateTime finishedAt;
+    private volatile String error;
+
+    public MovieImportJob(Path file, Path rejectsFile, long totalBytes) {
+        this.file = file;
+        this.rejectsFile = rejectsFile;
+        this.totalBytes = totalBytes;
+    }
+
+    /**
+     * Records a rejected line, keeping the first {@value #MAX_SAMPLE_REJECTS} as a sample.
+     *
+     * @param rejectedRow The rejected line
+     */
+    void reject(RejectedRow rejectedRow) {
+        rowsRejected.incrementAndGet();
+        synchronized (sampleRejects) {
+            if (sampleRejects.size() < MAX_SAMPLE_REJECTS) {
+                sampleRejects.add(rejectedRow);
+            }
+        }
+    }
+
+    /**
+     * @return A copy of the sample of rejected lines
+     */
+    public List<RejectedRow> getSampleRejects() {
+        synchronized (sampleRejects) {
+            return List.copyOf(sampleRejects);
+        }
+    }
+
+    void merging() {
+        state = State.MERGING;
+    }
+
+    void complete(long mergedRows) {
+        rowsMerged = mergedRows;
+        finishedAt = LocalDateTime.now();
+        state = State.COMPLETED;
+    }
+
+    void fail(String message) {
+        error = message;
+        finishedAt = LocalDateTime.now();
+        state = State.FAILED;
+    }
+
+    /**
+     * @return true while the import has not completed or failed
+     */
+    public boolean isActive() {
+        return state == State.RUNNING || state == State.MERGING;
+    }
+}
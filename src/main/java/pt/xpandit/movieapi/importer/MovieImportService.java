@@ -0,0 +1,361 @@
+package pt.xpandit.movieapi.importer;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import pt.xpandit.movieapi.dto.request.MovieRequest;
+import pt.xpandit.movieapi.exception.MovieImportException;
+import pt.xpandit.movieapi.service.event.MoviesImportMergingEvent;
+import pt.xpandit.movieapi.service.event.MoviesImportedEvent;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Service importing movie catalogues from CSV files.
+ * The file is split into segments aligned on line boundaries, each memory-mapped and parsed by a worker
+ * that streams the valid rows into the {@code movie_import_staging} table through the PostgreSQL COPY protocol.
+ * Once every segment is loaded the staging rows are merged into the movie table, matching existing movies
+ * by title and launch date. Rejected lines are written to a rejects file next to the source file.
+ * Only the most recent jobs are kept in memory, bounded by {@code movie.import.max-jobs}.
+ */
+@Slf4j
+@Service
+public class MovieImportService {
+
+    private static final String TRUNCATE_SQL = "TRUNCATE movie_import_staging";
+    private static final String COPY_SQL = "COPY movie_import_staging (title, launch_date, rank, revenue, source_offset) "
+            + "FROM STDIN WITH (FORMAT csv)";
+    private static final String MERGE_SQL = """
+            MERGE INTO movie m
+            USING (SELECT DISTINCT ON (title, launch_date) title, launch_date, rank, revenue
+                   FROM movie_import_staging
+                   ORDER BY title, launch_date, source_offset DESC) s
+            ON m.title = s.title AND m.launch_date = s.launch_date
+            WHEN MATCHED THEN
+                UPDATE SET rank = s.rank, revenue = s.revenue, updated_date = now()
+            WHEN NOT MATCHED THEN
+                INSERT (title, launch_date, rank, revenue, created_date, updated_date)
+                VALUES (s.title, s.launch_date, s.rank, s.revenue, now(), now())
+            """;
+    private static final int COPY_BUFFER_SIZE = 1 << 16;
+    private static final int PROGRESS_INTERVAL = 10_000;
+
+    private final MovieCsvParser movieCsvParser;
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Path importDirectory;
+    private final long segmentSize;
+    private final int maxJobs;
+    private final ExecutorService coordinator = Executors.newSingleThreadExecutor();
+    private final ExecutorService workers;
+    private final Map<UUID, MovieImportJob> jobs = new LinkedHashMap<>();
+    private final AtomicReference<MovieImportJob> activeJob = new AtomicReference<>();
+
+    public MovieImportService(MovieCsvParser movieCsvParser,
+                              DataSource dataSource,
+                              JdbcTemplate jdbcTemplate,
+                              ApplicationEventPublisher eventPublisher,
+                              @Value("${movie.import.directory}") Path importDirectory,
+                              @Value("${movie.import.parallelism:4}") int parallelism,
+                              @Value("${movie.import.segment-size:67108864}") long segmentSize,
+                              @Value("${movie.import.max-jobs:20}") int maxJobs) {
+        this.movieCsvParser = movieCsvParser;
+        this.dataSource = dataSource;
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        this.importDirectory = importDirectory.toAbsolutePath().normalize();
+        this.segmentSize = segmentSize;
+        this.maxJobs = maxJobs;
+        this.workers = Executors.newFixedThreadPool(parallelism);
+    }
+
+    /**
+     * Starts importing a CSV file from the import directory in the background.
+     * The first line of the file is a header and is skipped.
+     *
+     * @param fileName The name of the file, relative to the import directory
+     * @return The MovieImportJob tracking the progress of the import
+     * @throws MovieImportException if the file is outside the import directory, does not exist,
+     *                              or another import is running
+     */
+    public MovieImportJob start(String fileName) {
+        Path file = importDirectory.resolve(fileName).normalize();
+        if (!file.startsWith(importDirectory) || !Files.isRegularFile(file) || !Files.isReadable(file)) {
+            throw new MovieImportException(HttpStatus.BAD_REQUEST, "Import file not found: " + fileName);
+        }
+        long size;
+        try {
+            size = Files.size(file);
+        } catch (IOException ex) {
+            throw new MovieImportException(HttpStatus.BAD_REQUEST, "Import file not readable: " + fileName);
+        }
+
+        Path rejectsFile = file.resolveSibling(file.getFileName() + ".rejects.csv");
+        MovieImportJob job = new MovieImportJob(file, rejectsFile, size);
+        MovieImportJob current = activeJob.get();
+        if ((current != null && current.isActive()) || !activeJob.compareAndSet(current, job)) {
+            throw new MovieImportException(HttpStatus.CONFLICT, "Another import is already running");
+        }
+        retain(job);
+        coordinator.execute(() -> run(job));
+        return job;
+    }
+
+    /**
+     * Finds an import job by ID. Only the last {@code movie.import.max-jobs} jobs can be found.
+     *
+     * @param id The unique identifier of the job
+     * @return The MovieImportJob with the given ID
+     * @throws MovieImportException if no job exists with the given ID
+     */
+    public MovieImportJob findJob(UUID id) {
+        MovieImportJob job;
+        synchronized (jobs) {
+            job = jobs.get(id);
+        }
+        return Optional.ofNullable(job)
+                .orElseThrow(() -> new MovieImportException(HttpStatus.NOT_FOUND, "Import job not found with id: " + id));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        coordinator.shutdownNow();
+        workers.shutdownNow();
+    }
+
+    /**
+     * Registers a new job, forgetting the oldest finished jobs beyond {@code movie.import.max-jobs}.
+     */
+    private void retain(MovieImportJob job) {
+        synchronized (jobs) {
+            jobs.put(job.getId(), job);
+            Iterator<MovieImportJob> oldest = jobs.values().iterator();
+            while (jobs.size() > maxJobs && oldest.hasNext()) {
+                if (!oldest.next().isActive()) {
+                    oldest.remove();
+                }
+            }
+        }
+    }
+
+    private void run(MovieImportJob job) {
+        log.info("Starting movie import {} from {}", job.getId(), job.getFile());
+        try (FileChannel channel = FileChannel.open(job.getFile(), StandardOpenOption.READ);
+             Writer rejects = Files.newBufferedWriter(job.getRejectsFile(), StandardCharsets.UTF_8)) {
+            jdbcTemplate.execute(TRUNCATE_SQL);
+
+            List<Future<?>> segments = new ArrayList<>();
+            long start = skipHeader(channel);
+            while (start < job.getTotalBytes()) {
+                long end = findLineEnd(channel, Math.min(start + segmentSize, job.getTotalBytes()));
+                long segmentStart = start;
+                segments.add(workers.submit(() -> {
+                    loadSegment(job, channel, segmentStart, end, rejects);
+                    return null;
+                }));
+                start = end;
+            }
+            try {
+                for (Future<?> segment : segments) {
+                    segment.get();
+                }
+            } finally {
+                segments.forEach(segment -> segment.cancel(true));
+            }
+
+            int merged = merge(job);
+            jdbcTemplate.execute(TRUNCATE_SQL);
+            job.complete(merged);
+            log.info("Movie import {} completed: {} rows accepted, {} rejected, {} merged",
+                    job.getId(), job.getRowsAccepted().get(), job.getRowsRejected().get(), merged);
+        } catch (ExecutionException ex) {
+            fail(job, ex.getCause());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            fail(job, ex);
+        } catch (Exception ex) {
+            fail(job, ex);
+        }
+    }
+
+    /**
+     * Merges the staging rows into the movie table, announcing the merge before it starts and after it finishes,
+     * whether it succeeds or not.
+     *
+     * @return The number of movies inserted or updated
+     */
+    private int merge(MovieImportJob job) {
+        job.merging();
+        eventPublisher.publishEvent(new MoviesImportMergingEvent(job.getId()));
+        int merged;
+        try {
+            merged = jdbcTemplate.update(MERGE_SQL);
+        } catch (RuntimeException ex) {
+            publishImported(job, 0);
+            throw ex;
+        }
+        publishImported(job, merged);
+        return merged;
+    }
+
+    /**
+     * Announces that a merge finished. A failing listener is logged rather than rethrown:
+     * the outcome of the import is the outcome of the merge, which has already committed or failed.
+     */
+    private void publishImported(MovieImportJob job, int merged) {
+        try {
+            eventPublisher.publishEvent(new MoviesImportedEvent(merged));
+        } catch (RuntimeException ex) {
+            log.error("Listener failed after merging movie import {}", job.getId(), ex);
+        }
+    }
+
+    private void fail(MovieImportJob job, Throwable cause) {
+        log.error("Movie import {} failed", job.getId(), cause);
+        job.fail(cause.getMessage());
+    }
+
+    /**
+     * Parses the lines in {@code [start, end)} and streams the valid ones into the staging table.
+     * The segment is memory-mapped, so only the line being parsed is copied onto the heap.
+     */
+    private void loadSegment(MovieImportJob job, FileChannel channel, long start, long end, Writer rejects)
+            throws IOException, SQLException {
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+        byte[] line = new byte[256];
+        long pendingBytes = 0;
+        long pendingRows = 0;
+
+        try (Connection connection = dataSource.getConnection();
+             Writer copy = new BufferedWriter(new OutputStreamWriter(
+                     new PGCopyOutputStream(connection.unwrap(PGConnection.class), COPY_SQL, COPY_BUFFER_SIZE),
+                     StandardCharsets.UTF_8), COPY_BUFFER_SIZE)) {
+            while (buffer.hasRemaining()) {
+                int lineStart = buffer.position();
+                int length = 0;
+                while (buffer.hasRemaining()) {
+                    byte b = buffer.get();
+                    if (b == '\n') {
+                        break;
+                    }
+                    if (length == line.length) {
+                        line = Arrays.copyOf(line, length * 2);
+                    }
+                    line[length++] = b;
+                }
+                pendingBytes += buffer.position() - lineStart;
+                if (length > 0 && line[length - 1] == '\r') {
+                    length--;
+                }
+                if (length > 0) {
+                    pendingRows++;
+                    processLine(job, new String(line, 0, length, StandardCharsets.UTF_8), start + lineStart, copy, rejects);
+                }
+                if (pendingRows == PROGRESS_INTERVAL) {
+                    job.getRowsRead().addAndGet(pendingRows);
+                    job.getProcessedBytes().addAndGet(pendingBytes);
+                    pendingRows = 0;
+                    pendingBytes = 0;
+                }
+            }
+        }
+        job.getRowsRead().addAndGet(pendingRows);
+        job.getProcessedBytes().addAndGet(pendingBytes);
+    }
+
+    private void processLine(MovieImportJob job, String line, long offset, Writer copy, Writer rejects) throws IOException {
+        MovieCsvParser.ParsedRow row = movieCsvParser.parse(line);
+        if (!row.isValid()) {
+            job.reject(new MovieImportJob.RejectedRow(offset, line, row.errors()));
+            synchronized (rejects) {
+                rejects.write(offset + "," + quote(line) + "," + quote(String.join("; ", row.errors())) + "\n");
+            }
+            return;
+        }
+        MovieRequest movie = row.movie();
+        copy.write(quote(movie.title()));
+        copy.write(',');
+        copy.write(movie.launchDate().toString());
+        copy.write(',');
+        copy.write(movie.rank().setScale(1, RoundingMode.HALF_UP).toPlainString());
+        copy.write(',');
+        copy.write(movie.revenue().setScale(2, RoundingMode.HALF_UP).toPlainString());
+        copy.write(',');
+        copy.write(Long.toString(offset));
+        copy.write('\n');
+        job.getRowsAccepted().incrementAndGet();
+    }
+
+    /**
+     * @return The position right after the header line
+     */
+    private long skipHeader(FileChannel channel) throws IOException {
+        return findLineEnd(channel, 0);
+    }
+
+    /**
+     * Finds the position right after the first line terminator at or after the given position.
+     *
+     * @return The position after the line terminator, or the file size if there is none
+     */
+    private long findLineEnd(FileChannel channel, long position) throws IOException {
+        long size = channel.size();
+        if (position >= size) {
+            return size;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(8192);
+        long current = position;
+        while (current < size) {
+            buffer.clear();
+            int read = channel.read(buffer, current);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (buffer.get(i) == '\n') {
+                    return current + i + 1;
+                }
+            }
+            current += read;
+        }
+        return size;
+    }
+
+    private static String quote(String value) {
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,215 @@
+package pt.xpandit.movieapi.jfr;
+
+import jdk.jfr.consumer.RecordedClass;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Offline analyzer summarizing a JFR dump of the movie API.
+ * Reports the slowest endpoints and service operations from the custom movie API events, the top
+ * allocation sites from allocation samples and the most contended locks from blocked monitor enters and
+ * parks on {@code java.util.concurrent} locks. Monitor waits and parks on conditions, queues or other
+ * synchronizers are left out, as they measure threads waiting for work rather than for a lock.
+ * Depends only on the JDK, so it can be run against the compiled classes:
+ * {@code java -cp target/classes pt.xpandit.movieapi.jfr.JfrAnalyzer <dump.jfr> [top]}.
+ */
+public final class JfrAnalyzer {
+
+    private static final int DEFAULT_TOP = 10;
+    private static final List<String> LOCK_CLASS_PREFIXES = List.of(
+            "java.util.concurrent.locks.ReentrantLock$",
+            "java.util.concurrent.locks.ReentrantReadWriteLock$",
+            "java.util.concurrent.locks.StampedLock");
+
+    private final Map<String, Stats> endpoints = new HashMap<>();
+    private final Map<String, Stats> operations = new HashMap<>();
+    private final Map<String, Long> allocations = new HashMap<>();
+    private final Map<String, Stats> contention = new HashMap<>();
+
+    /**
+     * Accumulated durations of a group of events.
+     */
+    private static final class Stats {
+        private final List<Long> durations = new ArrayList<>();
+        private long dbTime;
+        private long mappingTime;
+        private long rows;
+        private long errors;
+
+        void add(Duration duration) {
+            durations.add(duration.toNanos());
+        }
+
+        long count() {
+            return durations.size();
+        }
+
+        long total() {
+            return durations.stream().mapToLong(Long::longValue).sum();
+        }
+
+        long percentile(double percentile) {
+            List<Long> sorted = durations.stream().sorted().toList();
+            int index = (int) Math.ceil(percentile * sorted.size()) - 1;
+            return sorted.get(Math.max(0, index));
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: JfrAnalyzer <recording.jfr> [top]");
+            System.exit(1);
+        }
+        int top = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_TOP;
+        System.out.print(analyze(Path.of(args[0]), top));
+    }
+
+    /**
+     * Reads a recording and returns a plain text summary.
+     *
+     * @param recording The JFR file to analyze
+     * @param top The number of entries listed per section
+     * @return The summary of the recording
+     * @throws IOException if the recording cannot be read
+     */
+    public static String analyze(Path recording, int top) throws IOException {
+        JfrAnalyzer analyzer = new JfrAnalyzer();
+        try (RecordingFile file = new RecordingFile(recording)) {
+            while (file.hasMoreEvents()) {
+                analyzer.accept(file.readEvent());
+            }
+        }
+        return analyzer.summary(top);
+    }
+
+    private void accept(RecordedEvent event) {
+        switch (event.getEventType().getName()) {
+            case MovieRequestEvent.NAME -> {
+                Stats stats = endpoints.computeIfAbsent(
+                        event.getString("method") + " " + event.getString("path"), key -> new Stats());
+                stats.add(event.getDuration());
+                if (event.getInt("status") >= 500) {
+                    stats.errors++;
+                }
+            }
+            case MovieServiceEvent.NAME -> {
+                Stats stats = operations.computeIfAbsent(event.getString("operation"), key -> new Stats());
+                stats.add(event.getDuration());
+                stats.dbTime += event.getLong("dbTime");
+                stats.mappingTime += event.getLong("mappingTime");
+                stats.rows += event.getLong("rowsReturned");
+                if (MovieServiceEvent.FAILED.equals(event.getString("outcome"))) {
+                    stats.errors++;
+                }
+            }
+            case "jdk.ObjectAllocationSample" -> allocations.merge(
+                    topFrame(event.getStackTrace()) + " (" + className(event.getClass("objectClass")) + ")",
+                    event.getLong("weight"), Long::sum);
+            case "jdk.JavaMonitorEnter" -> contention.computeIfAbsent(
+                    "monitor " + className(event.getClass("monitorClass")) + " at " + topFrame(event.getStackTrace()),
+                    key -> new Stats()).add(event.getDuration());
+            case "jdk.ThreadPark" -> {
+                RecordedClass parkedClass = event.getClass("parkedClass");
+                if (isLock(parkedClass)) {
+                    contention.computeIfAbsent(
+                            "lock " + className(parkedClass) + " at " + lockCaller(event.getStackTrace()),
+                            key -> new Stats()).add(event.getDuration());
+                }
+            }
+            default -> {
+            }
+        }
+    }
+
+    private String summary(int top) {
+        StringBuilder summary = new StringBuilder();
+
+        summary.append("== Hottest endpoints (by total time) ==\n");
+        endpoints.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, Stats> entry) -> entry.getValue().total()).reversed())
+                .limit(top)
+                .forEach(entry -> summary.append(String.format("%-50s count=%d total=%s p50=%s p99=%s max=%s 5xx=%d%n",
+                        entry.getKey(), entry.getValue().count(), millis(entry.getValue().total()),
+                        millis(entry.getValue().percentile(0.5)), millis(entry.getValue().percentile(0.99)),
+                        millis(entry.getValue().percentile(1)), entry.getValue().errors)));
+
+        summary.append("\n== Service operations (by total time) ==\n");
+        operations.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, Stats> entry) -> entry.getValue().total()).reversed())
+                .limit(top)
+                .forEach(entry -> summary.append(String.format("%-30s count=%d total=%s db=%s mapping=%s p99=%s rows=%d failed=%d%n",
+                        entry.getKey(), entry.getValue().count(), millis(entry.getValue().total()),
+                        millis(entry.getValue().dbTime), millis(entry.getValue().mappingTime),
+                        millis(entry.getValue().percentile(0.99)), entry.getValue().rows, entry.getValue().errors)));
+
+        summary.append("\n== Allocation sources (by sampled weight) ==\n");
+        allocations.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .limit(top)
+                .forEach(entry -> summary.append(String.format("%-80s %d MB%n",
+                        entry.getKey(), entry.getValue() / (1024 * 1024))));
+
+        summary.append("\n== Lock contention (by total blocked time) ==\n");
+        contention.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, Stats> entry) -> entry.getValue().total()).reversed())
+                .limit(top)
+                .forEach(entry -> summary.append(String.format("%-80s count=%d total=%s max=%s%n",
+                        entry.getKey(), entry.getValue().count(), millis(entry.getValue().total()),
+                        millis(entry.getValue().percentile(1)))));
+
+        return summary.toString();
+    }
+
+    private static String topFrame(RecordedStackTrace stackTrace) {
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return "<unknown>";
+        }
+        RecordedFrame frame = stackTrace.getFrames().get(0);
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+
+    /**
+     * Finds the frame that acquired a lock, skipping the lock implementation frames at the top of a park stack trace.
+     */
+    private static String lockCaller(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "<unknown>";
+        }
+        return stackTrace.getFrames().stream()
+                .filter(frame -> !frame.getMethod().getType().getName().startsWith("jdk.internal.")
+                        && !frame.getMethod().getType().getName().startsWith("java.util.concurrent.locks."))
+                .findFirst()
+                .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber())
+                .orElse("<unknown>");
+    }
+
+    /**
+     * Checks whether a parked thread was blocked acquiring a lock. Threads parked on a lock's synchronizer
+     * report it as parked class, while threads awaiting a condition report the condition object.
+     */
+    private static boolean isLock(RecordedClass parkedClass) {
+        if (parkedClass == null || parkedClass.getName().contains("ConditionObject")) {
+            return false;
+        }
+        return LOCK_CLASS_PREFIXES.stream().anyMatch(parkedClass.getName()::startsWith);
+    }
+
+    private static String className(RecordedClass recordedClass) {
+        return recordedClass == null ? "<unknown>" : recordedClass.getName();
+    }
+
+    private static String millis(long nanos) {
+        return String.format("%.2fms", nanos / 1_000_000.0);
+    }
+}
@@ -0,0 +1,53 @@
+package pt.xpandit.movieapi.jfr;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.Access;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import pt.xpandit.movieapi.dto.response.JfrDumpResponse;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Actuator endpoint dumping the last minutes of the continuous JFR recording.
+ * Access is denied unless granted with {@code management.endpoint.jfr.access} and the endpoint is exposed
+ * with {@code management.endpoints.web.exposure.include}, ideally on a separate {@code management.server.port}.
+ */
+@Component
+@Endpoint(id = "jfr", defaultAccess = Access.NONE)
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "movie.jfr.enabled", havingValue = "true", matchIfMissing = true)
+public class JfrDumpEndpoint {
+
+    private static final long DEFAULT_MINUTES = 5;
+
+    private final JfrRecorder jfrRecorder;
+
+    /**
+     * Dumps the last minutes of the recording to a file in the dump directory.
+     * The period is limited to between one minute and the retention of the recording.
+     *
+     * @param minutes how many minutes to dump, starting from now, 5 if not given
+     * @return The dump file information
+     * @throws IOException if the recording cannot be dumped
+     */
+    @WriteOperation
+    public JfrDumpResponse dump(@Nullable Long minutes) throws IOException {
+        long maxMinutes = Math.max(1, jfrRecorder.getMaxAge().toMinutes());
+        long clamped = Math.clamp(minutes == null ? DEFAULT_MINUTES : minutes, 1, maxMinutes);
+        Duration window = Duration.ofMinutes(clamped);
+        if (window.compareTo(jfrRecorder.getMaxAge()) > 0) {
+            window = jfrRecorder.getMaxAge();
+        }
+        Instant to = Instant.now();
+        Path file = jfrRecorder.dump(window);
+        return new JfrDumpResponse(file.getFileName().toString(), to.minus(window), to, Files.size(file));
+    }
+}
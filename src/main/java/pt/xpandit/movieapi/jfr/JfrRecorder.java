@@ -0,0 +1,150 @@
+package pt.xpandit.movieapi.jfr;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Keeps a continuous JDK Flight Recorder recording of the application running.
+ * The recording uses a low-overhead settings profile plus the movie API events, and only retains
+ * the most recent data, bounded by age and size, so the last minutes can be dumped after a latency spike.
+ * Events carrying environment variables, system properties and JVM arguments are never recorded,
+ * as they may hold credentials, and only the most recent dumps are kept on disk.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "movie.jfr.enabled", havingValue = "true", matchIfMissing = true)
+public class JfrRecorder {
+
+    private static final DateTimeFormatter FILE_TIMESTAMP =
+            DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS").withZone(ZoneOffset.UTC);
+    private static final String DUMP_PREFIX = "movie-api-";
+    private static final String DUMP_SUFFIX = ".jfr";
+    private static final String FULL_DUMP_SUFFIX = ".full.jfr";
+    private static final Set<String> SENSITIVE_EVENTS =
+            Set.of("jdk.InitialEnvironmentVariable", "jdk.InitialSystemProperty", "jdk.JVMInformation");
+
+    private final String settings;
+    private final Duration maxAge;
+    private final DataSize maxSize;
+    private final Path dumpDirectory;
+    private final int maxDumps;
+
+    private Recording recording;
+
+    public JfrRecorder(@Value("${movie.jfr.settings:default}") String settings,
+                       @Value("${movie.jfr.max-age:30m}") Duration maxAge,
+                       @Value("${movie.jfr.max-size:256MB}") DataSize maxSize,
+                       @Value("${movie.jfr.dump-directory}") Path dumpDirectory,
+                       @Value("${movie.jfr.max-dumps:5}") int maxDumps) {
+        if (maxDumps < 1) {
+            throw new IllegalArgumentException("movie.jfr.max-dumps must be at least 1");
+        }
+        this.settings = settings;
+        this.maxAge = maxAge;
+        this.maxSize = maxSize;
+        this.dumpDirectory = dumpDirectory;
+        this.maxDumps = maxDumps;
+    }
+
+    /**
+     * Starts the continuous recording.
+     *
+     * @throws IOException if the settings profile cannot be read
+     * @throws ParseException if the settings profile is invalid
+     */
+    @PostConstruct
+    public void start() throws IOException, ParseException {
+        recording = new Recording(Configuration.getConfiguration(settings));
+        recording.setName("movie-api");
+        recording.setToDisk(true);
+        recording.setMaxAge(maxAge);
+        recording.setMaxSize(maxSize.toBytes());
+        recording.enable(MovieServiceEvent.class);
+        recording.enable(MovieRequestEvent.class);
+        SENSITIVE_EVENTS.forEach(recording::disable);
+        recording.start();
+        log.info("Continuous JFR recording started with '{}' settings, keeping the last {}", settings, maxAge);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (recording != null) {
+            recording.close();
+        }
+    }
+
+    /**
+     * @return The maximum age of the data kept by the recording
+     */
+    public Duration getMaxAge() {
+        return maxAge;
+    }
+
+    /**
+     * Writes the events of the last part of the recording to a new file in the dump directory,
+     * then deletes the oldest dumps beyond {@code movie.jfr.max-dumps}.
+     * Dumps run one at a time, so at most one full copy of the recording is on disk besides the dumps kept.
+     *
+     * @param window How far back to dump, starting from now
+     * @return The file the events were written to
+     * @throws IOException if the recording cannot be dumped or written
+     */
+    public synchronized Path dump(Duration window) throws IOException {
+        Files.createDirectories(dumpDirectory);
+        Instant end = Instant.now();
+        Instant start = end.minus(window);
+        Path target = dumpDirectory.resolve(DUMP_PREFIX + FILE_TIMESTAMP.format(end) + DUMP_SUFFIX);
+        Path full = Files.createTempFile(dumpDirectory, DUMP_PREFIX, FULL_DUMP_SUFFIX);
+        try {
+            recording.dump(full);
+            try (RecordingFile recordingFile = new RecordingFile(full)) {
+                recordingFile.write(target, event -> !event.getEndTime().isBefore(start)
+                        && !SENSITIVE_EVENTS.contains(event.getEventType().getName()));
+            }
+        } finally {
+            Files.deleteIfExists(full);
+        }
+        log.info("JFR recording from {} to {} dumped to {}", start, end, target);
+        deleteOldDumps();
+        return target;
+    }
+
+    private void deleteOldDumps() throws IOException {
+        List<Path> dumps;
+        try (Stream<Path> files = Files.list(dumpDirectory)) {
+            dumps = files
+                    .filter(file -> {
+                        String name = file.getFileName().toString();
+                        return name.startsWith(DUMP_PREFIX) && name.endsWith(DUMP_SUFFIX) && !name.endsWith(FULL_DUMP_SUFFIX);
+                    })
+                    // The UTC timestamp in the name sorts the dumps from newest to oldest
+                    .sorted(Comparator.comparing(Path::getFileName).reversed())
+                    .toList();
+        }
+        for (Path old : dumps.subList(Math.min(maxDumps, dumps.size()), dumps.size())) {
+            Files.deleteIfExists(old);
+            log.info("Deleted old JFR dump {}", old);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package pt.xpandit.movieapi.jfr;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Interceptor recording a {@link MovieRequestEvent} for each handled request.
+ */
+public class JfrRequestInterceptor implements HandlerInterceptor {
+
+    private static final String EVENT_ATTRIBUTE = JfrRequestInterceptor.class.getName() + ".event";
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        MovieRequestEvent event = new MovieRequestEvent();
+        if (event.isEnabled()) {
+            event.begin();
+            request.setAttribute(EVENT_ATTRIBUTE, event);
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (!(request.getAttribute(EVENT_ATTRIBUTE) instanceof MovieRequestEvent event)) {
+            return;
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            event.method = request.getMethod();
+            event.path = pattern != null ? pattern.toString() : request.getRequestURI();
+            event.handler = handler instanceof HandlerMethod handlerMethod
+                    ? handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName()
+                    : handler.getClass().getSimpleName();
+            event.status = response.getStatus();
+            event.commit();
+        }
+    }
+}
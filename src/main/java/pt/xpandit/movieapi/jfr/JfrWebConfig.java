@@ -0,0 +1,17 @@
+package pt.xpandit.movieapi.jfr;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Registers the JFR request interceptor for the API endpoints.
+ */
+@Configuration
+public class JfrWebConfig implements WebMvcConfigurer {
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new JfrRequestInterceptor()).addPathPatterns("/api/**");
+    }
+}
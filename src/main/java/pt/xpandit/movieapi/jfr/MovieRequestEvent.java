@@ -0,0 +1,34 @@
+package pt.xpandit.movieapi.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event recorded around the handling of each API request.
+ */
+@Name(MovieRequestEvent.NAME)
+@Label("Movie API Request")
+@Category({"Movie API", "Web"})
+@Description("Handling of an HTTP request by the movie API")
+@StackTrace(false)
+public class MovieRequestEvent extends Event {
+
+    public static final String NAME = "pt.xpandit.movieapi.Request";
+
+    @Label("Method")
+    String method;
+
+    @Label("Path")
+    @Description("The matched request mapping pattern, or the request URI if none matched")
+    String path;
+
+    @Label("Handler")
+    String handler;
+
+    @Label("Status")
+    int status;
+}
@@ -0,0 +1,143 @@
+package pt.xpandit.movieapi.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+import java.util.function.Supplier;
+
+/**
+ * JFR event recorded around each MovieService operation.
+ * Splits the operation time between database access and entity/DTO mapping.
+ * The event is committed for failed operations too, with the failure recorded as outcome and error,
+ * so slow lookups of missing movies and database errors or timeouts show up in the recording.
+ */
+@Name(MovieServiceEvent.NAME)
+@Label("Movie Service Operation")
+@Category({"Movie API", "Service"})
+@Description("Execution of a MovieService operation")
+@StackTrace(false)
+public class MovieServiceEvent extends Event {
+
+    public static final String NAME = "pt.xpandit.movieapi.MovieServiceOperation";
+    public static final String SUCCESS = "SUCCESS";
+    public static final String FAILED = "FAILED";
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("Rows Returned")
+    private long rowsReturned;
+
+    @Label("Outcome")
+    @Description("SUCCESS, or FAILED if the operation threw an exception")
+    private String outcome;
+
+    @Label("Error")
+    @Description("Class of the exception thrown by a failed operation")
+    private String error;
+
+    @Label("Database Time")
+    @Timespan(Timespan.NANOSECONDS)
+    private long dbTime;
+
+    @Label("Mapping Time")
+    @Timespan(Timespan.NANOSECONDS)
+    private long mappingTime;
+
+    /**
+     * Creates and starts timing an event for the given operation.
+     *
+     * @param operation The name of the MovieService operation
+     * @return The started MovieServiceEvent
+     */
+    public static MovieServiceEvent begin(String operation) {
+        MovieServiceEvent event = new MovieServiceEvent();
+        event.operation = operation;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Runs a database access, adding its duration to the database time.
+     *
+     * @param access The database access
+     * @param <T>    The type of the result
+     * @return The result of the access
+     */
+    public <T> T measureDb(Supplier<T> access) {
+        if (!isEnabled()) {
+            return access.get();
+        }
+        long start = System.nanoTime();
+        try {
+            return access.get();
+        } finally {
+            dbTime += System.nanoTime() - start;
+        }
+    }
+
+    /**
+     * Runs a database access without result, adding its duration to the database time.
+     *
+     * @param access The database access
+     */
+    public void runDb(Runnable access) {
+        measureDb(() -> {
+            access.run();
+            return null;
+        });
+    }
+
+    /**
+     * Runs a mapping step, adding its duration to the mapping time.
+     *
+     * @param mapping The mapping step
+     * @param <T>     The type of the result
+     * @return The result of the mapping
+     */
+    public <T> T measureMapping(Supplier<T> mapping) {
+        if (!isEnabled()) {
+            return mapping.get();
+        }
+        long start = System.nanoTime();
+        try {
+            return mapping.get();
+        } finally {
+            mappingTime += System.nanoTime() - start;
+        }
+    }
+
+    /**
+     * Sets the number of rows returned by the operation.
+     *
+     * @param rows The number of rows
+     */
+    public void setRowsReturned(long rows) {
+        rowsReturned = rows;
+    }
+
+    /**
+     * Records that the operation failed.
+     *
+     * @param cause The exception thrown by the operation
+     */
+    public void fail(Throwable cause) {
+        outcome = FAILED;
+        error = cause.getClass().getName();
+    }
+
+    /**
+     * Ends and commits the event, as successful unless {@link #fail(Throwable)} was called.
+     */
+    public void complete() {
+        if (outcome == null) {
+            outcome = SUCCESS;
+        }
+        commit();
+    }
+}
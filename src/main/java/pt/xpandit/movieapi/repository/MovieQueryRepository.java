@@ -0,0 +1,23 @@
+package pt.xpandit.movieapi.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+import pt.xpandit.movieapi.domain.Movie;
+
+/**
+ * Repository fragment for movie queries that are paginated without counting the matching rows.
+ */
+public interface MovieQueryRepository {
+
+    /**
+     * Finds one slice of the movies matching a specification.
+     * Fetches a single row past the requested page to tell whether a next page exists,
+     * instead of running a count query over every matching row.
+     *
+     * @param specification The criteria the movies must match
+     * @param pageable The page and sort to apply
+     * @return Slice of matching movies
+     */
+    Slice<Movie> findSlice(Specification<Movie> specification, Pageable pageable);
+}
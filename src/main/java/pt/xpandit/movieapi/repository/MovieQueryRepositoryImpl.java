@@ -0,0 +1,44 @@
+package pt.xpandit.movieapi.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import pt.xpandit.movieapi.domain.Movie;
+
+import java.util.List;
+
+/**
+ * Criteria API implementation of {@link MovieQueryRepository}.
+ */
+@RequiredArgsConstructor
+public class MovieQueryRepositoryImpl implements MovieQueryRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Slice<Movie> findSlice(Specification<Movie> specification, Pageable pageable) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Movie> query = builder.createQuery(Movie.class);
+        Root<Movie> root = query.from(Movie.class);
+        Predicate predicate = specification.toPredicate(root, query, builder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(root).orderBy(QueryUtils.toOrders(pageable.getSort(), root, builder));
+
+        List<Movie> movies = entityManager.createQuery(query)
+                .setFirstResult(Math.toIntExact(pageable.getOffset()))
+                .setMaxResults(pageable.getPageSize() + 1)
+                .getResultList();
+        boolean hasNext = movies.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? movies.subList(0, pageable.getPageSize()) : movies, pageable, hasNext);
+    }
+}
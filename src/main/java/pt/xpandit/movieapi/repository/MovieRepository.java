@@ -1,8 +1,12 @@
 package pt.xpandit.movieapi.repository;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import pt.xpandit.movieapi.domain.Movie;
+import pt.xpandit.movieapi.domain.MovieFigures;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -11,7 +15,7 @@ import java.util.List;
  * Repository interface for Movie entities.
  */
 @Repository
-public interface MovieRepository extends JpaRepository<Movie, Long> {
+public interface MovieRepository extends JpaRepository<Movie, Long>, JpaSpecificationExecutor<Movie>, MovieQueryRepository {
 
     /**
      * Finds all movies with launch dates within a specified date range.
@@ -24,4 +28,27 @@ public interface MovieRepository extends JpaRepository<Movie, Long> {
      */
     List<Movie> findByLaunchDateBetween(LocalDate startDate, LocalDate endDate);
 
+    /**
+     * Finds the IDs of the movies with an ID greater than the given one, in ID order, without loading the entities.
+     * Used to walk all IDs in batches.
+     *
+     * @param id The ID to start after
+     * @param limit The maximum number of results
+     * @return List of movie IDs in ascending order
+     */
+    @Query("select m.id from Movie m where m.id > :id order by m.id")
+    List<Long> findIdsByIdGreaterThan(Long id, Limit limit);
+
+    /**
+     * Finds the figures of the movies with an ID greater than the given one, in ID order.
+     * Used to walk the whole table in batches without loading full entities.
+     *
+     * @param id The ID to start after
+     * @param limit The maximum number of results
+     * @return List of MovieFigures ordered by ID
+     */
+    @Query("select new pt.xpandit.movieapi.domain.MovieFigures(m.id, m.launchDate, m.rank, m.revenue) "
+            + "from Movie m where m.id > :id order by m.id")
+    List<MovieFigures> findFiguresByIdGreaterThan(Long id, Limit limit);
+
 }
@@ -0,0 +1,103 @@
+package pt.xpandit.movieapi.repository.specification;
+
+import org.springframework.data.jpa.domain.Specification;
+import pt.xpandit.movieapi.domain.Movie;
+import pt.xpandit.movieapi.dto.request.MovieQueryRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Factory of JPA specifications used to query movies.
+ * Values are always bound as query parameters, so queries of the same shape share one
+ * compiled plan in the Hibernate query plan cache.
+ */
+public final class MovieSpecifications {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    private MovieSpecifications() {
+    }
+
+    /**
+     * Builds a specification matching every criterion present in the query.
+     *
+     * @param query The query criteria
+     * @return Specification combining all given criteria, matching every movie if none is given
+     */
+    public static Specification<Movie> fromQuery(MovieQueryRequest query) {
+        List<Specification<Movie>> specifications = new ArrayList<>();
+        if (query.title() != null) {
+            specifications.add(equalTo("title", query.title()));
+        }
+        if (query.titlePrefix() != null) {
+            specifications.add(titleStartsWith(query.titlePrefix()));
+        }
+        if (query.launchDate() != null) {
+            specifications.add(equalTo("launchDate", query.launchDate()));
+        }
+        if (query.launchDateFrom() != null || query.launchDateTo() != null) {
+            specifications.add(between("launchDate", query.launchDateFrom(), query.launchDateTo()));
+        }
+        if (query.rank() != null) {
+            specifications.add(equalTo("rank", query.rank()));
+        }
+        if (query.rankMin() != null || query.rankMax() != null) {
+            specifications.add(between("rank", query.rankMin(), query.rankMax()));
+        }
+        if (query.revenue() != null) {
+            specifications.add(equalTo("revenue", query.revenue()));
+        }
+        if (query.revenueMin() != null || query.revenueMax() != null) {
+            specifications.add(between("revenue", query.revenueMin(), query.revenueMax()));
+        }
+        return Specification.allOf(specifications);
+    }
+
+    /**
+     * Matches movies whose attribute is equal to the given value.
+     *
+     * @param attribute The name of the Movie attribute
+     * @param value The value to compare with
+     * @return Specification for the equality predicate
+     */
+    public static Specification<Movie> equalTo(String attribute, Object value) {
+        return (root, criteriaQuery, builder) -> builder.equal(root.get(attribute), value);
+    }
+
+    /**
+     * Matches movies whose attribute lies within the given bounds, both inclusive.
+     * A null bound leaves that side of the range open.
+     *
+     * @param attribute The name of the Movie attribute
+     * @param min The lower bound, or null
+     * @param max The upper bound, or null
+     * @return Specification for the range predicate
+     */
+    public static <T extends Comparable<? super T>> Specification<Movie> between(String attribute, T min, T max) {
+        return (root, criteriaQuery, builder) -> {
+            if (min != null && max != null) {
+                return builder.between(root.<T>get(attribute), min, max);
+            }
+            if (min != null) {
+                return builder.greaterThanOrEqualTo(root.<T>get(attribute), min);
+            }
+            return builder.lessThanOrEqualTo(root.<T>get(attribute), max);
+        };
+    }
+
+    /**
+     * Matches movies whose title starts with the given prefix, case-sensitive so the
+     * title pattern index can be used.
+     *
+     * @param prefix The title prefix
+     * @return Specification for the prefix predicate
+     */
+    public static Specification<Movie> titleStartsWith(String prefix) {
+        String pattern = prefix
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_") + "%";
+        return (root, criteriaQuery, builder) -> builder.like(root.get("title"), pattern, LIKE_ESCAPE);
+    }
+}
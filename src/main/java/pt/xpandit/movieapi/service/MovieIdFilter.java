@@ -0,0 +1,340 @@
+package pt.xpandit.movieapi.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import pt.xpandit.movieapi.repository.MovieRepository;
+import pt.xpandit.movieapi.service.event.MovieChangedEvent;
+import pt.xpandit.movieapi.service.event.MoviesImportMergingEvent;
+import pt.xpandit.movieapi.service.event.MoviesImportedEvent;
+import pt.xpandit.movieapi.util.BloomFilter;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Negative lookup filter over existing movie IDs.
+ * Lets lookups for IDs that definitely do not exist be rejected without querying the database.
+ * The filter is built from the movie table on startup, updated on inserts and rebuilt in the background
+ * once too many deletions or insertions have made it stale. Failed rebuilds are retried with exponential backoff,
+ * so the filter never stays unavailable after the database recovers.
+ */
+@Slf4j
+@Component
+public class MovieIdFilter {
+
+    private static final int REBUILD_BATCH_SIZE = 10_000;
+    private static final Duration MAX_RETRY_DELAY = Duration.ofMinutes(5);
+
+    private final MovieRepository movieRepository;
+    private final boolean enabled;
+    private final double falsePositiveRate;
+    private final long minCapacity;
+    private final Duration retryDelay;
+
+    private final Object lock = new Object();
+    private final ScheduledExecutorService rebuildExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "movie-id-filter-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicInteger mergingImports = new AtomicInteger();
+    private final AtomicLong insertions = new AtomicLong();
+    private final AtomicLong removals = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLong falsePositiveCount = new AtomicLong();
+
+    private final Counter rejectedCounter;
+    private final Counter passedCounter;
+    private final Counter falsePositiveCounter;
+
+    private volatile BloomFilter filter;
+    private Set<Long> pendingIds;
+    private CompletableFuture<Void> scheduledRebuild;
+    private Duration nextRetryDelay;
+
+    public MovieIdFilter(MovieRepository movieRepository,
+                         MeterRegistry meterRegistry,
+                         @Value("${movie.id-filter.enabled:true}") boolean enabled,
+                         @Value("${movie.id-filter.false-positive-rate:0.01}") double falsePositiveRate,
+                         @Value("${movie.id-filter.min-capacity:1024}") long minCapacity,
+                         @Value("${movie.id-filter.retry-delay:1s}") Duration retryDelay) {
+        this.movieRepository = movieRepository;
+        this.enabled = enabled;
+        this.falsePositiveRate = falsePositiveRate;
+        this.minCapacity = minCapacity;
+        this.retryDelay = retryDelay;
+        this.nextRetryDelay = retryDelay;
+
+        this.rejectedCounter = Counter.builder("movie.id.filter.lookups")
+                .description("Movie lookups answered by the ID filter")
+                .tag("result", "rejected")
+                .register(meterRegistry);
+        this.passedCounter = Counter.builder("movie.id.filter.lookups")
+                .description("Movie lookups answered by the ID filter")
+                .tag("result", "passed")
+                .register(meterRegistry);
+        this.falsePositiveCounter = Counter.builder("movie.id.filter.false.positives")
+                .description("Lookups that passed the ID filter but were not found in the database")
+                .register(meterRegistry);
+        Gauge.builder("movie.id.filter.false.positive.rate.expected", this, MovieIdFilter::expectedFalsePositiveRate)
+                .description("False-positive rate estimated from the filter fill ratio")
+                .register(meterRegistry);
+        Gauge.builder("movie.id.filter.false.positive.rate.observed", this, MovieIdFilter::observedFalsePositiveRate)
+                .description("Share of lookups for missing IDs that still reached the database")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Builds the filter once the application has started. Lookups pass until it is built,
+     * and the build is retried if the database is not reachable yet.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (enabled) {
+            requestRebuild();
+        }
+    }
+
+    /**
+     * Stops rejecting lookups while a bulk import is merged, as imported IDs become visible once
+     * the merge commits but are only added to the filter by the rebuild that follows it.
+     *
+     * @param event The import about to be merged into the movie table
+     */
+    @EventListener
+    public void onMoviesImportMerging(MoviesImportMergingEvent event) {
+        if (enabled) {
+            mergingImports.incrementAndGet();
+        }
+    }
+
+    /**
+     * Rebuilds the filter after a bulk import, as imported IDs are not added one by one.
+     * Lookups are rejected again only once the rebuilt filter is published. If the rebuild fails,
+     * the filter is dropped instead, so imported IDs are never rejected, until a retried rebuild brings it back.
+     * Runs before any other import listener, so the merge is always accounted for even if another one fails.
+     *
+     * @param event The import that was merged into the movie table
+     */
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onMoviesImported(MoviesImportedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        CompletableFuture<Void> rebuild;
+        try {
+            rebuild = requestRebuild();
+        } catch (RuntimeException ex) {
+            mergingImports.decrementAndGet();
+            throw ex;
+        }
+        rebuild.whenComplete((result, ex) -> {
+            if (ex != null) {
+                synchronized (lock) {
+                    filter = null;
+                }
+            }
+            mergingImports.decrementAndGet();
+        });
+    }
+
+    /**
+     * Applies a committed movie change to the filter.
+     * Saved IDs are put again once committed: a rebuild reading the table before the commit would not see them,
+     * so they must reach either the filter it replaces while it is still pending, or the filter it publishes.
+     * Deletions only count towards the next rebuild, which then runs outside the deleting transaction.
+     *
+     * @param event The change published by the MovieService
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMovieChanged(MovieChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        if (event.type() == MovieChangedEvent.Type.DELETED) {
+            BloomFilter current = filter;
+            if (current != null && removals.incrementAndGet() > current.capacity() / 10) {
+                requestRebuild();
+            }
+        } else {
+            put(event.figures().id());
+        }
+    }
+
+    /**
+     * Checks whether a movie with the given ID may exist.
+     * Always answers true while the filter is disabled, not yet built or a bulk import is being merged.
+     *
+     * @param id The movie ID to check
+     * @return false if the movie definitely does not exist, true otherwise
+     */
+    public boolean mightContain(Long id) {
+        BloomFilter current = filter;
+        if (current == null || id == null || mergingImports.get() > 0) {
+            return true;
+        }
+        if (current.mightContain(id)) {
+            passedCounter.increment();
+            return true;
+        }
+        rejectedCount.incrementAndGet();
+        rejectedCounter.increment();
+        return false;
+    }
+
+    /**
+     * Registers the ID of a movie created in the current transaction, so it can be found by
+     * other requests as soon as it is committed. The ID is registered again after the commit
+     * through {@link #onMovieChanged(MovieChangedEvent)}.
+     *
+     * @param id The ID of the created movie
+     */
+    public void add(Long id) {
+        if (!enabled || id == null) {
+            return;
+        }
+        put(id);
+        BloomFilter current = filter;
+        if (current != null && insertions.incrementAndGet() > current.capacity()) {
+            requestRebuild();
+        }
+    }
+
+    /**
+     * Records a lookup that passed the filter but found no movie in the database.
+     */
+    public void recordFalsePositive() {
+        if (filter != null) {
+            falsePositiveCount.incrementAndGet();
+            falsePositiveCounter.increment();
+        }
+    }
+
+    /**
+     * Schedules a rebuild of the filter from the IDs stored in the database.
+     * Rebuilds run one at a time on a dedicated thread, outside of the caller's transaction.
+     * Requests made before a scheduled rebuild has started share it, while requests made once it
+     * is running schedule a new one, so every request is followed by a rebuild that started after it.
+     *
+     * @return Future completed once the rebuild serving this request has finished, exceptionally if it failed
+     */
+    public CompletableFuture<Void> requestRebuild() {
+        synchronized (lock) {
+            if (scheduledRebuild == null) {
+                scheduledRebuild = CompletableFuture.runAsync(this::runScheduledRebuild, rebuildExecutor);
+            }
+            return scheduledRebuild;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    private void runScheduledRebuild() {
+        synchronized (lock) {
+            scheduledRebuild = null;
+        }
+        rebuildFromDatabase();
+    }
+
+    private void put(Long id) {
+        synchronized (lock) {
+            if (filter != null) {
+                filter.put(id);
+            }
+            if (pendingIds != null) {
+                pendingIds.add(id);
+            }
+        }
+    }
+
+    /**
+     * Rebuilds the filter from the IDs currently stored in the database.
+     * The filter is sized from the row count, then the IDs are streamed into it in batches, so only one batch
+     * of IDs is held on the heap at a time. IDs put while the rebuild is running are replayed into the new filter
+     * before it is published. IDs committed after the table was read are put again by
+     * {@link #onMovieChanged(MovieChangedEvent)}, either while the rebuild is still pending or into the published filter.
+     * If the rebuild fails, another one is scheduled after a delay that doubles on every consecutive failure.
+     */
+    private void rebuildFromDatabase() {
+        try {
+            synchronized (lock) {
+                pendingIds = new HashSet<>();
+            }
+            BloomFilter rebuilt = new BloomFilter(Math.max(minCapacity, movieRepository.count() * 2), falsePositiveRate);
+            long loaded = 0;
+            long lastId = 0;
+            List<Long> batch;
+            do {
+                batch = movieRepository.findIdsByIdGreaterThan(lastId, Limit.of(REBUILD_BATCH_SIZE));
+                batch.forEach(rebuilt::put);
+                loaded += batch.size();
+                if (!batch.isEmpty()) {
+                    lastId = batch.get(batch.size() - 1);
+                }
+            } while (batch.size() == REBUILD_BATCH_SIZE);
+            synchronized (lock) {
+                pendingIds.forEach(rebuilt::put);
+                pendingIds = null;
+                filter = rebuilt;
+                insertions.set(loaded);
+                removals.set(0);
+                nextRetryDelay = retryDelay;
+            }
+            log.info("Movie ID filter rebuilt with {} ids and capacity {}", loaded, rebuilt.capacity());
+        } catch (RuntimeException ex) {
+            Duration delay;
+            synchronized (lock) {
+                pendingIds = null;
+                delay = nextRetryDelay;
+                Duration doubled = delay.multipliedBy(2);
+                nextRetryDelay = doubled.compareTo(MAX_RETRY_DELAY) < 0 ? doubled : MAX_RETRY_DELAY;
+            }
+            log.warn("Failed to rebuild movie ID filter, keeping the previous one and retrying in {}", delay, ex);
+            scheduleRetry(delay);
+            throw ex;
+        }
+    }
+
+    private void scheduleRetry(Duration delay) {
+        try {
+            rebuildExecutor.schedule(this::requestRebuild, delay.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException ex) {
+            log.debug("Not retrying movie ID filter rebuild, the application is shutting down");
+        }
+    }
+
+    private double expectedFalsePositiveRate() {
+        BloomFilter current = filter;
+        return current == null ? 0 : current.expectedFalsePositiveRate();
+    }
+
+    private double observedFalsePositiveRate() {
+        long falsePositives = falsePositiveCount.get();
+        long misses = falsePositives + rejectedCount.get();
+        return misses == 0 ? 0 : (double) falsePositives / misses;
+    }
+}
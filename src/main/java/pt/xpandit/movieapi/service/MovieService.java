@@ -2,25 +2,49 @@ package pt.xpandit.movieapi.service;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.BeanUtils;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import pt.xpandit.movieapi.domain.Movie;
+import pt.xpandit.movieapi.dto.request.MovieQueryRequest;
 import pt.xpandit.movieapi.dto.request.MovieRequest;
 import pt.xpandit.movieapi.dto.response.MovieResponse;
+import pt.xpandit.movieapi.dto.response.PageResponse;
+import pt.xpandit.movieapi.exception.InvalidQueryException;
 import pt.xpandit.movieapi.exception.MovieNotFoundException;
+import pt.xpandit.movieapi.jfr.MovieServiceEvent;
 import pt.xpandit.movieapi.repository.MovieRepository;
+import pt.xpandit.movieapi.repository.specification.MovieSpecifications;
+import pt.xpandit.movieapi.service.event.MovieChangedEvent;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * Service class for managing movie business operations.
+ * Each operation is recorded as a {@link MovieServiceEvent} in the JFR recording, whether it succeeds or fails.
+ * Writes are flushed while the event measures database time, so it covers their SQL statements
+ * and statement failures such as constraint violations are recorded as failures of the operation.
  */
 @Service
 @RequiredArgsConstructor
 public class MovieService {
 
+    static final int DEFAULT_PAGE_SIZE = 20;
+    static final int MAX_RESULT_WINDOW = 10_000;
+    private static final Set<String> SORTABLE_FIELDS = Set.of("title", "launchDate", "rank", "revenue");
+
     private final MovieRepository movieRepository;
+    private final MovieIdFilter movieIdFilter;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Retrieves all movies from the database.
@@ -28,10 +52,14 @@ public class MovieService {
      * @return List of MovieResponse objects containing all movies
      */
     public List<MovieResponse> findAll(){
-        return movieRepository.findAll()
-                .stream()
-                .map(this::toResponse)
-                .toList();
+        return recorded("findAll", event -> {
+            List<Movie> movies = event.measureDb(() -> movieRepository.findAll());
+            List<MovieResponse> responses = event.measureMapping(() -> movies.stream()
+                    .map(this::toResponse)
+                    .toList());
+            event.setRowsReturned(responses.size());
+            return responses;
+        });
     }
 
     /**
@@ -42,22 +70,42 @@ public class MovieService {
      */
     @Transactional
     public Movie create(MovieRequest movieRequest) {
-        var movie = new Movie();
-        BeanUtils.copyProperties(movieRequest, movie);
-        return movieRepository.save(movie);
+        return recorded("create", event -> {
+            var movie = new Movie();
+            event.measureMapping(() -> {
+                BeanUtils.copyProperties(movieRequest, movie);
+                return movie;
+            });
+            Movie saved = event.measureDb(() -> movieRepository.saveAndFlush(movie));
+            movieIdFilter.add(saved.getId());
+            eventPublisher.publishEvent(MovieChangedEvent.saved(saved));
+            event.setRowsReturned(1);
+            return saved;
+        });
     }
 
     /**
      * Finds a movie by ID.
+     * IDs rejected by the {@link MovieIdFilter} are reported as not found without querying the database.
      *
      * @param id The unique identifier of the movie
      * @return MovieResponse object containing the movie information
      * @throws MovieNotFoundException if no movie is found with the given ID
      */
     public MovieResponse findById(Long id) {
-        return movieRepository.findById(id)
-                .map(this::toResponse)
-                .orElseThrow(() -> new MovieNotFoundException("Movie not found with id: " + id));
+        return recorded("findById", event -> {
+            if (!movieIdFilter.mightContain(id)) {
+                throw new MovieNotFoundException("Movie not found with id: " + id);
+            }
+            Optional<Movie> movie = event.measureDb(() -> movieRepository.findById(id));
+            if (movie.isEmpty()) {
+                movieIdFilter.recordFalsePositive();
+                throw new MovieNotFoundException("Movie not found with id: " + id);
+            }
+            MovieResponse response = event.measureMapping(() -> toResponse(movie.get()));
+            event.setRowsReturned(1);
+            return response;
+        });
     }
 
     /**
@@ -68,9 +116,49 @@ public class MovieService {
      * @return List of MovieResponse within the date range
      */
     public List<MovieResponse> findByLaunchDateRange(LocalDate startDate, LocalDate endDate) {
-        return movieRepository.findByLaunchDateBetween(startDate, endDate).stream()
-                .map(this::toResponse)
-                .toList();
+        return recorded("findByLaunchDateRange", event -> {
+            List<Movie> movies = event.measureDb(() -> movieRepository.findByLaunchDateBetween(startDate, endDate));
+            List<MovieResponse> responses = event.measureMapping(() -> movies.stream()
+                    .map(this::toResponse)
+                    .toList());
+            event.setRowsReturned(responses.size());
+            return responses;
+        });
+    }
+
+    /**
+     * Finds movies matching all criteria of the query, one page at a time.
+     * Results are ordered by the requested sort keys followed by ID, so pages are stable.
+     * Matching rows are not counted, and pages are limited to the first {@value #MAX_RESULT_WINDOW} results,
+     * so the offset the database skips over stays bounded; deeper results need narrower criteria.
+     * Sorting by revenue alone is served in either direction by the {@code (revenue, id)} index,
+     * as the ID tie-breaker follows the direction of the last sort key. Other sort keys are sorted
+     * after filtering, so they are cheapest combined with selective criteria.
+     *
+     * @param query The query criteria, sort keys and page
+     * @return PageResponse of MovieResponse matching the query
+     * @throws InvalidQueryException if a range is inverted, a sort key is not supported
+     *                               or the page is beyond the result window
+     */
+    public PageResponse<MovieResponse> query(MovieQueryRequest query) {
+        return recorded("query", event -> {
+            validateRange("launchDate", query.launchDateFrom(), query.launchDateTo());
+            validateRange("rank", query.rankMin(), query.rankMax());
+            validateRange("revenue", query.revenueMin(), query.revenueMax());
+
+            int page = query.page() == null ? 0 : query.page();
+            int size = query.size() == null ? DEFAULT_PAGE_SIZE : query.size();
+            if ((page + 1L) * size > MAX_RESULT_WINDOW) {
+                throw new InvalidQueryException("Only the first " + MAX_RESULT_WINDOW
+                        + " results can be paged through, narrow the query criteria instead");
+            }
+            var pageRequest = PageRequest.of(page, size, toSort(query.sort()));
+
+            Slice<Movie> movies = event.measureDb(() -> movieRepository.findSlice(MovieSpecifications.fromQuery(query), pageRequest));
+            PageResponse<MovieResponse> response = event.measureMapping(() -> PageResponse.of(movies.map(this::toResponse)));
+            event.setRowsReturned(response.content().size());
+            return response;
+        });
     }
 
     /**
@@ -83,9 +171,17 @@ public class MovieService {
      */
     @Transactional
     public Movie update(Long id, MovieRequest movieRequest) {
-        Movie movie = movieRepository.findById(id).orElseThrow(MovieNotFoundException::new);
-        BeanUtils.copyProperties(movieRequest, movie);
-        return movieRepository.save(movie);
+        return recorded("update", event -> {
+            Movie movie = event.measureDb(() -> movieRepository.findById(id)).orElseThrow(MovieNotFoundException::new);
+            event.measureMapping(() -> {
+                BeanUtils.copyProperties(movieRequest, movie);
+                return movie;
+            });
+            Movie saved = event.measureDb(() -> movieRepository.saveAndFlush(movie));
+            eventPublisher.publishEvent(MovieChangedEvent.saved(saved));
+            event.setRowsReturned(1);
+            return saved;
+        });
     }
 
     /**
@@ -96,8 +192,91 @@ public class MovieService {
      */
     @Transactional
     public void delete(Long id) {
-        Movie movie = movieRepository.findById(id).orElseThrow(MovieNotFoundException::new);
-        movieRepository.delete(movie);
+        recorded("delete", event -> {
+            Movie movie = event.measureDb(() -> movieRepository.findById(id)).orElseThrow(MovieNotFoundException::new);
+            event.runDb(() -> {
+                movieRepository.delete(movie);
+                movieRepository.flush();
+            });
+            eventPublisher.publishEvent(MovieChangedEvent.deleted(id));
+            event.setRowsReturned(1);
+        });
+    }
+
+    /**
+     * Runs an operation recorded as a {@link MovieServiceEvent}, committed whether the operation succeeds or fails.
+     *
+     * @param operation The name of the operation
+     * @param body      The operation, given the event to record its database time, mapping time and rows on
+     * @param <T>       The type of the result
+     * @return The result of the operation
+     */
+    private <T> T recorded(String operation, Function<MovieServiceEvent, T> body) {
+        var event = MovieServiceEvent.begin(operation);
+        try {
+            return body.apply(event);
+        } catch (RuntimeException ex) {
+            event.fail(ex);
+            throw ex;
+        } finally {
+            event.complete();
+        }
+    }
+
+    /**
+     * Runs an operation without result recorded as a {@link MovieServiceEvent}.
+     *
+     * @param operation The name of the operation
+     * @param body      The operation, given the event to record its database time and rows on
+     */
+    private void recorded(String operation, Consumer<MovieServiceEvent> body) {
+        recorded(operation, event -> {
+            body.accept(event);
+            return null;
+        });
+    }
+
+    /**
+     * Parses sort keys in the form {@code field} or {@code field:asc|desc} and appends ID as a tie-breaker,
+     * sorted in the same direction as the last key so an index on {@code (field, id)} can serve the order.
+     *
+     * @param sortKeys The sort keys, may be null
+     * @return Sort applying the keys in order
+     * @throws InvalidQueryException if a field or direction is not supported
+     */
+    private Sort toSort(List<String> sortKeys) {
+        List<Sort.Order> orders = new ArrayList<>();
+        if (sortKeys != null) {
+            for (String sortKey : sortKeys) {
+                String[] parts = sortKey.split(":");
+                String field = parts[0].trim();
+                if (!SORTABLE_FIELDS.contains(field) || parts.length > 2) {
+                    throw new InvalidQueryException("Unsupported sort key: " + sortKey);
+                }
+                Sort.Direction direction = parts.length == 2
+                        ? Sort.Direction.fromOptionalString(parts[1].trim())
+                                .orElseThrow(() -> new InvalidQueryException("Unsupported sort direction: " + sortKey))
+                        : Sort.Direction.ASC;
+                orders.add(new Sort.Order(direction, field));
+            }
+        }
+        Sort.Direction tieBreakerDirection = orders.isEmpty() ? Sort.Direction.ASC : orders.get(orders.size() - 1).getDirection();
+        orders.add(new Sort.Order(tieBreakerDirection, "id"));
+        return Sort.by(orders);
+    }
+
+    /**
+     * Checks that the lower bound of a range is not greater than its upper bound.
+     *
+     * @param field The name of the field the range applies to
+     * @param min The lower bound, or null
+     * @param max The upper bound, or null
+     * @throws InvalidQueryException if both bounds are given and min is greater than max
+     */
+    private <T extends Comparable<? super T>> void validateRange(String field, T min, T max) {
+        if (min != null && max != null && min.compareTo(max) > 0) {
+            throw new InvalidQueryException("Invalid " + field + " range: minimum is greater than maximum");
+        }
     }
 
     /**
@@ -0,0 +1,39 @@
+package pt.xpandit.movieapi.service.event;
+
+import pt.xpandit.movieapi.domain.Movie;
+import pt.xpandit.movieapi.domain.MovieFigures;
+
+/**
+ * Application event published by the MovieService whenever a movie is created, updated or deleted.
+ *
+ * @param type    The kind of change.
+ * @param figures The figures of the movie after the change. Only the ID is set for deletions.
+ */
+public record MovieChangedEvent(Type type, MovieFigures figures) {
+
+    public enum Type {
+        SAVED,
+        DELETED
+    }
+
+    /**
+     * Creates an event for a created or updated movie.
+     *
+     * @param movie The saved movie
+     * @return MovieChangedEvent of type SAVED
+     */
+    public static MovieChangedEvent saved(Movie movie) {
+        return new MovieChangedEvent(Type.SAVED,
+                new MovieFigures(movie.getId(), movie.getLaunchDate(), movie.getRank(), movie.getRevenue()));
+    }
+
+    /**
+     * Creates an event for a deleted movie.
+     *
+     * @param id The ID of the deleted movie
+     * @return MovieChangedEvent of type DELETED
+     */
+    public static MovieChangedEvent deleted(Long id) {
+        return new MovieChangedEvent(Type.DELETED, new MovieFigures(id, null, null, null));
+    }
+}
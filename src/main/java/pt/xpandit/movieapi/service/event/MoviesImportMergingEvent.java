@@ -0,0 +1,15 @@
+package pt.xpandit.movieapi.service.event;
+
+import java.util.UUID;
+
+/**
+ * Application event published right before a bulk import is merged into the movie table.
+ * Imported movies become visible as soon as the merge commits, before listeners have reloaded their derived state,
+ * so listeners answering whether a movie exists must stop relying on that state until the matching
+ * {@link MoviesImportedEvent} is handled. That event is always published once the merge has finished,
+ * even if it failed.
+ *
+ * @param jobId The ID of the import job being merged.
+ */
+public record MoviesImportMergingEvent(UUID jobId) {
+}
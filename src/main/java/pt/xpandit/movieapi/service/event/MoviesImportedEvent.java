@@ -0,0 +1,10 @@
+package pt.xpandit.movieapi.service.event;
+
+/**
+ * Application event published after a bulk import has been merged into the movie table, or after the merge failed.
+ * Listeners holding derived state must reload it, as no per-movie events are published for imported rows.
+ *
+ * @param mergedRows The number of movies inserted or updated by the import, 0 if the merge failed.
+ */
+public record MoviesImportedEvent(long mergedRows) {
+}
@@ -0,0 +1,113 @@
+package pt.xpandit.movieapi.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe Bloom filter over {@code long} keys.
+ * A negative answer from {@link #mightContain(long)} is definite, a positive answer may be a false positive.
+ * Keys cannot be removed; callers are expected to rebuild the filter when it becomes stale.
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashFunctions;
+    private final long capacity;
+
+    /**
+     * Creates a filter sized for the expected number of keys and the desired false-positive rate.
+     *
+     * @param expectedInsertions The number of keys the filter is sized for
+     * @param falsePositiveRate  The desired false-positive rate once {@code expectedInsertions} keys are added
+     * @throws IllegalArgumentException if the arguments are out of range
+     */
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("Expected insertions must be positive");
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("False positive rate must be between 0 and 1");
+        }
+        long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.min(Integer.MAX_VALUE - 8, (optimalBits + 63) >>> 6);
+        this.bits = new AtomicLongArray(words);
+        this.bitCount = (long) words << 6;
+        this.hashFunctions = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+        this.capacity = expectedInsertions;
+    }
+
+    /**
+     * Adds a key to the filter.
+     *
+     * @param key The key to add
+     */
+    public void put(long key) {
+        long hash1 = mix(key);
+        long hash2 = mix(hash1 ^ key) | 1L;
+        for (int i = 0; i < hashFunctions; i++) {
+            setBit(Math.floorMod(hash1 + i * hash2, bitCount));
+        }
+    }
+
+    /**
+     * Checks whether a key may have been added to the filter.
+     *
+     * @param key The key to check
+     * @return false if the key was definitely never added, true if it might have been
+     */
+    public boolean mightContain(long key) {
+        long hash1 = mix(key);
+        long hash2 = mix(hash1 ^ key) | 1L;
+        for (int i = 0; i < hashFunctions; i++) {
+            long index = Math.floorMod(hash1 + i * hash2, bitCount);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Estimates the current false-positive rate from the fraction of bits set.
+     *
+     * @return The estimated probability that an absent key is reported as present
+     */
+    public double expectedFalsePositiveRate() {
+        long setBits = 0;
+        for (int i = 0; i < bits.length(); i++) {
+            setBits += Long.bitCount(bits.get(i));
+        }
+        return Math.pow((double) setBits / bitCount, hashFunctions);
+    }
+
+    /**
+     * @return The number of keys the filter was sized for
+     */
+    public long capacity() {
+        return capacity;
+    }
+
+    private void setBit(long index) {
+        int word = (int) (index >>> 6);
+        long mask = 1L << index;
+        long current;
+        do {
+            current = bits.get(word);
+            if ((current & mask) != 0) {
+                return;
+            }
+        } while (!bits.compareAndSet(word, current, current | mask));
+    }
+
+    /**
+     * 64-bit finalizer from MurmurHash3, spreads sequential ids across the bit array.
+     */
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
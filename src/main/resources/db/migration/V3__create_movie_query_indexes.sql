@@ -0,0 +1,11 @@
+-- Launch date range, optionally narrowed by rank (/filter and /query)
+CREATE INDEX IF NOT EXISTS idx_movie_launch_date_rank ON movie (launch_date, rank);
+
+-- Rank range, optionally sorted or narrowed by revenue
+CREATE INDEX IF NOT EXISTS idx_movie_rank_revenue ON movie (rank, revenue);
+
+-- Revenue range and revenue sort
+CREATE INDEX IF NOT EXISTS idx_movie_revenue ON movie (revenue, id);
+
+-- Exact title and title prefix (LIKE 'prefix%') lookups
+CREATE INDEX IF NOT EXISTS idx_movie_title_pattern ON movie (title varchar_pattern_ops);
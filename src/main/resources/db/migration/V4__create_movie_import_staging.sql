@@ -0,0 +1,12 @@
+-- Staging table filled by the CSV import through COPY, never read by the API.
+-- Unlogged because its content is transient and rebuilt on every import.
+CREATE UNLOGGED TABLE IF NOT EXISTS movie_import_staging (
+   title VARCHAR(255) NOT NULL,
+   launch_date DATE NOT NULL,
+   rank DECIMAL(3,1) NOT NULL,
+   revenue DECIMAL(15,2) NOT NULL,
+   source_offset BIGINT NOT NULL
+);
+
+-- Key used to match imported rows with existing movies
+CREATE INDEX IF NOT EXISTS idx_movie_title_launch_date ON movie (title, launch_date);
@@ -0,0 +1,143 @@
+package pt.xpandit.movieapi.analytics;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ColumnScannerTest {
+
+    private static final int ROWS = 10_007;
+
+    private final Random random = new Random(42);
+    private final int[] epochDays = new int[ROWS];
+    private final short[] rankTenths = new short[ROWS];
+    private final long[] revenueCents = new long[ROWS];
+
+    ColumnScannerTest() {
+        for (int i = 0; i < ROWS; i++) {
+            epochDays[i] = random.nextInt(-5_000, 20_000);
+            rankTenths[i] = (short) random.nextInt(101);
+            revenueCents[i] = random.nextLong(100_000_000_000L);
+        }
+    }
+
+    @Test
+    void shouldMatchScalarScannerForRandomFilters() {
+        ColumnScanner scalar = new ScalarColumnScanner();
+        ColumnScanner best = ColumnScanner.best();
+
+        for (int i = 0; i < 100; i++) {
+            int fromDay = random.nextInt(-5_000, 20_000);
+            ColumnFilter filter = new ColumnFilter(fromDay, fromDay + random.nextInt(10_000));
+            int length = ROWS - i;
+
+            assertThat(best.aggregate(epochDays, rankTenths, revenueCents, length, filter))
+                    .isEqualTo(scalar.aggregate(epochDays, rankTenths, revenueCents, length, filter));
+        }
+    }
+
+    @Test
+    void shouldAggregateMatchingRows() {
+        ColumnFilter filter = new ColumnFilter(0, 9_999);
+        long count = 0;
+        long revenueSum = 0;
+        long rankSum = 0;
+        long minRevenue = Long.MAX_VALUE;
+        long maxRevenue = Long.MIN_VALUE;
+        for (int i = 0; i < ROWS; i++) {
+            if (epochDays[i] >= 0 && epochDays[i] <= 9_999) {
+                count++;
+                revenueSum += revenueCents[i];
+                rankSum += rankTenths[i];
+                minRevenue = Math.min(minRevenue, revenueCents[i]);
+                maxRevenue = Math.max(maxRevenue, revenueCents[i]);
+            }
+        }
+
+        ColumnAggregate aggregate = ColumnScanner.best().aggregate(epochDays, rankTenths, revenueCents, ROWS, filter);
+
+        assertThat(aggregate.count()).isEqualTo(count);
+        assertThat(aggregate.revenueSum()).isEqualTo(BigInteger.valueOf(revenueSum));
+        assertThat(aggregate.rankSum()).isEqualTo(rankSum);
+        assertThat(aggregate.minRevenue()).isEqualTo(minRevenue);
+        assertThat(aggregate.maxRevenue()).isEqualTo(maxRevenue);
+    }
+
+    @Test
+    void shouldReturnZeroCountWhenNothingMatches() {
+        ColumnAggregate aggregate = ColumnScanner.best()
+                .aggregate(epochDays, rankTenths, revenueCents, ROWS, new ColumnFilter(30_000, 40_000));
+
+        assertThat(aggregate.count()).isZero();
+        assertThat(aggregate.revenueSum()).isZero();
+    }
+
+    @Test
+    void shouldSumRevenueBeyondLongRange() {
+        long[] hugeRevenues = new long[ROWS];
+        Arrays.fill(hugeRevenues, Long.MAX_VALUE / 4);
+        BigInteger expected = BigInteger.valueOf(Long.MAX_VALUE / 4).multiply(BigInteger.valueOf(ROWS));
+        ColumnFilter filter = new ColumnFilter(Integer.MIN_VALUE, Integer.MAX_VALUE);
+
+        for (ColumnScanner scanner : List.of(new ScalarColumnScanner(), ColumnScanner.best())) {
+            assertThat(scanner.aggregate(epochDays, rankTenths, hugeRevenues, ROWS, filter).revenueSum())
+                    .isEqualTo(expected);
+            assertThat(scanner.aggregateByRevenueBucket(epochDays, hugeRevenues, ROWS, filter, 0, Long.MAX_VALUE, 1)
+                    .revenueSums()).containsExactly(expected);
+        }
+    }
+
+    @Test
+    void shouldAggregateByYearInOnePass() {
+        int[] launchYears = new int[ROWS];
+        Map<Integer, Long> expectedCounts = new TreeMap<>();
+        Map<Integer, BigInteger> expectedSums = new TreeMap<>();
+        ColumnFilter filter = new ColumnFilter(0, 9_999);
+        for (int i = 0; i < ROWS; i++) {
+            launchYears[i] = LocalDate.ofEpochDay(epochDays[i]).getYear();
+            if (filter.matches(epochDays[i])) {
+                expectedCounts.merge(launchYears[i], 1L, Long::sum);
+                expectedSums.merge(launchYears[i], BigInteger.valueOf(revenueCents[i]), BigInteger::add);
+            }
+        }
+
+        ColumnGroups groups = ColumnScanner.best().aggregateByYear(epochDays, launchYears, revenueCents, ROWS, filter);
+
+        Map<Integer, Long> counts = new TreeMap<>();
+        Map<Integer, BigInteger> sums = new TreeMap<>();
+        for (int i = 0; i < groups.size(); i++) {
+            if (groups.counts()[i] > 0) {
+                counts.put(groups.group(i), groups.counts()[i]);
+                sums.put(groups.group(i), groups.revenueSums()[i]);
+            }
+        }
+        assertThat(counts).isEqualTo(expectedCounts);
+        assertThat(sums).isEqualTo(expectedSums);
+    }
+
+    @Test
+    void shouldAggregateByRevenueBucketInOnePass() {
+        ColumnFilter filter = new ColumnFilter(-1_000, 15_000);
+        long width = 10_000_000_000L;
+        long[] expectedCounts = new long[10];
+        for (int i = 0; i < ROWS; i++) {
+            if (filter.matches(epochDays[i])) {
+                expectedCounts[(int) (revenueCents[i] / width)]++;
+            }
+        }
+
+        ColumnGroups groups = ColumnScanner.best()
+                .aggregateByRevenueBucket(epochDays, revenueCents, ROWS, filter, 0, width, 10);
+
+        assertThat(groups.firstGroup()).isZero();
+        assertThat(groups.counts()).containsExactly(expectedCounts);
+    }
+}
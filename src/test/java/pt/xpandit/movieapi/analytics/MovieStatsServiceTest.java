@@ -0,0 +1,133 @@
+package pt.xpandit.movieapi.analytics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import pt.xpandit.movieapi.domain.Movie;
+import pt.xpandit.movieapi.domain.MovieFigures;
+import pt.xpandit.movieapi.dto.response.RankStatsResponse;
+import pt.xpandit.movieapi.dto.response.RevenueBucketResponse;
+import pt.xpandit.movieapi.dto.response.YearRevenueResponse;
+import pt.xpandit.movieapi.exception.InvalidQueryException;
+import pt.xpandit.movieapi.repository.MovieRepository;
+import pt.xpandit.movieapi.service.event.MovieChangedEvent;
+import pt.xpandit.movieapi.service.event.MoviesImportedEvent;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MovieStatsServiceTest {
+
+    @Mock
+    private MovieRepository movieRepositoryMock;
+
+    private MovieColumnarSnapshot snapshot;
+    private MovieStatsService movieStatsService;
+
+    private final List<MovieFigures> figures = List.of(
+            createFigures(1L, "2010-07-01", "9.0", "58800000.00"),
+            createFigures(2L, "2010-07-16", "8.8", "836836967.00"),
+            createFigures(3L, "2008-07-18", "9.1", "1004558444.50"),
+            createFigures(4L, "1994-10-14", "8.9", "213928762.25")
+    );
+
+    @BeforeEach
+    void setUp() {
+        when(movieRepositoryMock.findFiguresByIdGreaterThan(eq(0L), any(Limit.class))).thenReturn(figures);
+        snapshot = new MovieColumnarSnapshot(movieRepositoryMock);
+        snapshot.load();
+        movieStatsService = new MovieStatsService(snapshot);
+    }
+
+    @Test
+    void shouldComputeRevenueByYear() {
+        List<YearRevenueResponse> years = movieStatsService.revenueByYear(null, null);
+
+        assertThat(years).containsExactly(
+                new YearRevenueResponse(1994, 1, new BigDecimal("213928762.25")),
+                new YearRevenueResponse(2008, 1, new BigDecimal("1004558444.50")),
+                new YearRevenueResponse(2010, 2, new BigDecimal("895636967.00"))
+        );
+    }
+
+    @Test
+    void shouldComputeRankStatsForDateRange() {
+        RankStatsResponse stats = movieStatsService.rankStats(LocalDate.of(2008, 1, 1), LocalDate.of(2010, 7, 10));
+
+        assertThat(stats).isEqualTo(new RankStatsResponse(2, new BigDecimal("9.05"),
+                new BigDecimal("9.0"), new BigDecimal("9.1")));
+    }
+
+    @Test
+    void shouldReturnEmptyRankStatsWhenNothingMatches() {
+        RankStatsResponse stats = movieStatsService.rankStats(LocalDate.of(2020, 1, 1), null);
+
+        assertThat(stats).isEqualTo(new RankStatsResponse(0, null, null, null));
+    }
+
+    @Test
+    void shouldComputeRevenueHistogram() {
+        List<RevenueBucketResponse> histogram = movieStatsService.revenueHistogram(null, null, 2);
+
+        assertThat(histogram).extracting(RevenueBucketResponse::count).containsExactly(2L, 2L);
+        assertThat(histogram.get(0).from()).isEqualByComparingTo("58800000.00");
+        assertThat(histogram.get(1).to()).isEqualByComparingTo("1004558444.50");
+    }
+
+    @Test
+    void shouldApplyMovieChanges() {
+        snapshot.onMovieChanged(MovieChangedEvent.deleted(3L));
+        snapshot.onMovieChanged(MovieChangedEvent.saved(Movie.builder()
+                .id(4L)
+                .launchDate(LocalDate.of(1994, 10, 14))
+                .rank(new BigDecimal("7.25"))
+                .revenue(new BigDecimal("100.005"))
+                .build()));
+
+        RankStatsResponse stats = movieStatsService.rankStats(null, LocalDate.of(2009, 1, 1));
+
+        assertThat(stats).isEqualTo(new RankStatsResponse(1, new BigDecimal("7.30"),
+                new BigDecimal("7.3"), new BigDecimal("7.3")));
+        assertThat(movieStatsService.revenueByYear(null, LocalDate.of(2009, 1, 1)))
+                .containsExactly(new YearRevenueResponse(1994, 1, new BigDecimal("100.01")));
+    }
+
+    @Test
+    void shouldKeepAnsweringAndApplyChangesWhileReloading() {
+        when(movieRepositoryMock.findFiguresByIdGreaterThan(eq(0L), any(Limit.class))).thenAnswer(invocation -> {
+            RankStatsResponse duringReload = CompletableFuture.supplyAsync(() -> movieStatsService.rankStats(null, null))
+                    .get(5, TimeUnit.SECONDS);
+            assertThat(duringReload.count()).isEqualTo(4);
+            // The deletion commits after the reload read the table, so the read still returns the movie
+            snapshot.onMovieChanged(MovieChangedEvent.deleted(3L));
+            return figures;
+        });
+
+        snapshot.onMoviesImported(new MoviesImportedEvent(0));
+
+        assertThat(movieStatsService.rankStats(null, null).count()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldRejectInvertedDateRange() {
+        assertThatThrownBy(() -> movieStatsService.rankStats(LocalDate.of(2010, 1, 1), LocalDate.of(2009, 1, 1)))
+                .isInstanceOf(InvalidQueryException.class);
+    }
+
+    private MovieFigures createFigures(Long id, String launchDate, String rank, String revenue) {
+        return new MovieFigures(id, LocalDate.parse(launchDate), new BigDecimal(rank), new BigDecimal(revenue));
+    }
+}
@@ -0,0 +1,112 @@
+package pt.xpandit.movieapi.analytics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import pt.xpandit.movieapi.PostgresIntegrationTest;
+import pt.xpandit.movieapi.dto.response.RankStatsResponse;
+import pt.xpandit.movieapi.dto.response.RevenueBucketResponse;
+import pt.xpandit.movieapi.dto.response.YearRevenueResponse;
+import pt.xpandit.movieapi.service.event.MoviesImportedEvent;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that every statistic computed from the columnar snapshot matches the SQL query documented on
+ * {@link MovieStatsService}, including revenue totals that exceed the range of a long in cents.
+ */
+@SpringBootTest(properties = "movie.analytics.enabled=true")
+class MovieStatsSqlParityTest extends PostgresIntegrationTest {
+
+    private static final int ROWS = 24_000;
+    private static final LocalDate START_DATE = LocalDate.of(1990, 1, 1);
+    private static final LocalDate END_DATE = LocalDate.of(2015, 6, 30);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MovieColumnarSnapshot snapshot;
+
+    @Autowired
+    private MovieStatsService movieStatsService;
+
+    @BeforeEach
+    void setUp() {
+        Random random = new Random(42);
+        List<Object[]> rows = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            boolean blockbuster = i % 2 == 0;
+            // Half of the movies are launched in 2000 with revenues close to the column maximum,
+            // so the total of that year in cents exceeds the range of a long
+            LocalDate launchDate = blockbuster
+                    ? LocalDate.of(2000, 1, 1).plusDays(random.nextInt(366))
+                    : LocalDate.of(1980, 1, 1).plusDays(random.nextInt(365 * 45));
+            BigDecimal revenue = blockbuster
+                    ? BigDecimal.valueOf(999_000_000_000_000L + random.nextLong(900_000_000_000L), 2)
+                    : BigDecimal.valueOf(random.nextLong(100_000_000_000L), 2);
+            rows.add(new Object[]{"Movie " + i, Date.valueOf(launchDate), BigDecimal.valueOf(random.nextInt(101), 1), revenue});
+        }
+        jdbcTemplate.update("DELETE FROM movie");
+        jdbcTemplate.batchUpdate("INSERT INTO movie (title, launch_date, rank, revenue, created_date, updated_date) "
+                + "VALUES (?, ?, ?, ?, now(), now())", rows);
+        snapshot.onMoviesImported(new MoviesImportedEvent(ROWS));
+    }
+
+    @Test
+    void shouldMatchRevenueByYearQuery() {
+        List<YearRevenueResponse> expected = jdbcTemplate.query(
+                "SELECT EXTRACT(YEAR FROM launch_date)::int AS year, COUNT(*), SUM(revenue) FROM movie "
+                        + "WHERE launch_date BETWEEN ? AND ? GROUP BY 1 ORDER BY 1",
+                (resultSet, rowNum) -> new YearRevenueResponse(resultSet.getInt(1), resultSet.getLong(2),
+                        resultSet.getBigDecimal(3)),
+                START_DATE, END_DATE);
+
+        List<YearRevenueResponse> actual = movieStatsService.revenueByYear(START_DATE, END_DATE);
+
+        assertThat(actual).isEqualTo(expected);
+        assertThat(actual).filteredOn(year -> year.year() == 2000).singleElement()
+                .satisfies(year -> assertThat(year.totalRevenue().movePointRight(2))
+                        .isGreaterThan(BigDecimal.valueOf(Long.MAX_VALUE)));
+    }
+
+    @Test
+    void shouldMatchRankStatsQuery() {
+        RankStatsResponse expected = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*), ROUND(AVG(rank), 2), MIN(rank), MAX(rank) FROM movie "
+                        + "WHERE launch_date BETWEEN ? AND ?",
+                (resultSet, rowNum) -> new RankStatsResponse(resultSet.getLong(1), resultSet.getBigDecimal(2),
+                        resultSet.getBigDecimal(3), resultSet.getBigDecimal(4)),
+                START_DATE, END_DATE);
+
+        RankStatsResponse actual = movieStatsService.rankStats(START_DATE, END_DATE);
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    void shouldMatchRevenueHistogramQueries() {
+        List<RevenueBucketResponse> histogram = movieStatsService.revenueHistogram(START_DATE, END_DATE, 20);
+
+        assertThat(histogram).isNotEmpty();
+        long total = 0;
+        for (RevenueBucketResponse bucket : histogram) {
+            Long expected = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM movie "
+                            + "WHERE launch_date BETWEEN ? AND ? AND revenue BETWEEN ? AND ?",
+                    Long.class, START_DATE, END_DATE, bucket.from(), bucket.to());
+            assertThat(bucket.count()).as("bucket %s - %s", bucket.from(), bucket.to()).isEqualTo(expected);
+            total += bucket.count();
+        }
+        assertThat(total).isEqualTo(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM movie WHERE launch_date BETWEEN ? AND ?", Long.class, START_DATE, END_DATE));
+    }
+}
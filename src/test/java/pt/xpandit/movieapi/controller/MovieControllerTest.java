@@ -8,8 +8,10 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import pt.xpandit.movieapi.domain.Movie;
+import pt.xpandit.movieapi.dto.request.MovieQueryRequest;
 import pt.xpandit.movieapi.dto.request.MovieRequest;
 import pt.xpandit.movieapi.dto.response.MovieResponse;
+import pt.xpandit.movieapi.dto.response.PageResponse;
 import pt.xpandit.movieapi.service.MovieService;
 
 import java.math.BigDecimal;
@@ -98,6 +100,27 @@ class MovieControllerTest {
                 .andExpect(content().json(objectMapper.writeValueAsString(expectedMovies)));
     }
 
+    @Test
+    void shouldQueryMovies() throws Exception {
+        PageResponse<MovieResponse> expectedPage = new PageResponse<>(List.of(createMovieResponse()), 0, 20, false);
+        when(movieServiceMock.query(any(MovieQueryRequest.class))).thenReturn(expectedPage);
+
+        mockMvc.perform(get("/api/v1/movies/query")
+                        .param("rankMin", "8")
+                        .param("revenueMin", "1000")
+                        .param("revenueMax", "500000000")
+                        .param("sort", "revenue:desc"))
+                .andExpect(status().isOk())
+                .andExpect(content().json(objectMapper.writeValueAsString(expectedPage)));
+    }
+
+    @Test
+    void shouldReturnBadRequestWhenQueryPageTooLarge() throws Exception {
+        mockMvc.perform(get("/api/v1/movies/query")
+                        .param("size", "1000"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void shouldUpdateMovie() throws Exception {
         MovieRequest request = createMovieRequest();
@@ -0,0 +1,85 @@
+package pt.xpandit.movieapi.importer;
+
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.Test;
+import pt.xpandit.movieapi.dto.request.MovieRequest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MovieCsvParserTest {
+
+    private final MovieCsvParser movieCsvParser =
+            new MovieCsvParser(Validation.buildDefaultValidatorFactory().getValidator());
+
+    @Test
+    void shouldParseValidLine() {
+        MovieCsvParser.ParsedRow row = movieCsvParser.parse("The Matrix,1999-03-31,8.7,463517383");
+
+        assertThat(row.isValid()).isTrue();
+        assertThat(row.movie()).isEqualTo(new MovieRequest(
+                "The Matrix",
+                LocalDate.of(1999, 3, 31),
+                new BigDecimal("8.7"),
+                new BigDecimal("463517383")
+        ));
+    }
+
+    @Test
+    void shouldParseQuotedTitle() {
+        MovieCsvParser.ParsedRow row = movieCsvParser.parse("\"Crouching Tiger, \"\"Hidden\"\" Dragon\",2000-07-06,7.9,213525736.50");
+
+        assertThat(row.isValid()).isTrue();
+        assertThat(row.movie().title()).isEqualTo("Crouching Tiger, \"Hidden\" Dragon");
+    }
+
+    @Test
+    void shouldTrimOnlyUnquotedFields() {
+        MovieCsvParser.ParsedRow row = movieCsvParser.parse("\"  The Matrix \", 1999-03-31 , 8.7,463517383 ");
+
+        assertThat(row.isValid()).isTrue();
+        assertThat(row.movie()).isEqualTo(new MovieRequest(
+                "  The Matrix ",
+                LocalDate.of(1999, 3, 31),
+                new BigDecimal("8.7"),
+                new BigDecimal("463517383")
+        ));
+        assertThat(movieCsvParser.parse("  The Matrix ,1999-03-31,8.7,463517383").movie().title())
+                .isEqualTo("The Matrix");
+    }
+
+    @Test
+    void shouldRejectLineBreakingMovieRequestRules() {
+        MovieCsvParser.ParsedRow row = movieCsvParser.parse(",1999-03-31,11,-1");
+
+        assertThat(row.isValid()).isFalse();
+        assertThat(row.errors()).containsExactlyInAnyOrder(
+                "Rank must be between 0 and 10",
+                "Revenue must be zero or positive",
+                "The title is required"
+        );
+    }
+
+    @Test
+    void shouldRejectUnparseableValues() {
+        MovieCsvParser.ParsedRow row = movieCsvParser.parse("The Matrix,31/03/1999,high,463517383");
+
+        assertThat(row.errors()).containsExactly("Invalid launch date: 31/03/1999", "Invalid rank: high");
+    }
+
+    @Test
+    void shouldRejectMalformedLines() {
+        assertThat(movieCsvParser.parse("The Matrix,1999-03-31,8.7").errors())
+                .containsExactly("Expected 4 columns but found 3");
+        assertThat(movieCsvParser.parse("\"The Matrix,1999-03-31,8.7,1").errors())
+                .containsExactly("Unterminated quoted field");
+    }
+
+    @Test
+    void shouldRejectRevenueAboveStorageLimit() {
+        assertThat(movieCsvParser.parse("The Matrix,1999-03-31,8.7,10000000000000").errors())
+                .containsExactly("Revenue must be lower than 10000000000000");
+    }
+}
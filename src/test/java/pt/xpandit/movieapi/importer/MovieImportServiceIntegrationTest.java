@@ -0,0 +1,179 @@
+package pt.xpandit.movieapi.importer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import pt.xpandit.movieapi.PostgresIntegrationTest;
+import pt.xpandit.movieapi.exception.MovieImportException;
+import pt.xpandit.movieapi.service.MovieIdFilter;
+import pt.xpandit.movieapi.service.event.MoviesImportedEvent;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Imports a CSV file into a real PostgreSQL database, with segments small enough that the file
+ * is split across every worker and most lines end up in a different segment than their neighbours.
+ * A listener failing on every import checks that listener failures do not affect the import.
+ */
+@SpringBootTest(properties = {
+        "movie.import.parallelism=3",
+        "movie.import.segment-size=64",
+        "movie.import.max-jobs=2"
+})
+class MovieImportServiceIntegrationTest extends PostgresIntegrationTest {
+
+    private static final Path IMPORT_DIRECTORY = createImportDirectory();
+
+    @Autowired
+    private MovieImportService movieImportService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MovieIdFilter movieIdFilter;
+
+    @TestConfiguration
+    static class FailingListenerConfiguration {
+
+        @Bean
+        FailingImportListener failingImportListener() {
+            return new FailingImportListener();
+        }
+    }
+
+    static class FailingImportListener {
+
+        @EventListener
+        public void onMoviesImported(MoviesImportedEvent event) {
+            throw new IllegalStateException("Listener failure");
+        }
+    }
+
+    @DynamicPropertySource
+    static void importProperties(DynamicPropertyRegistry registry) {
+        registry.add("movie.import.directory", IMPORT_DIRECTORY::toString);
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM movie");
+        jdbcTemplate.update("INSERT INTO movie (title, launch_date, rank, revenue, created_date, updated_date) "
+                + "VALUES ('Inception', '2010-07-16', 8.0, 836836967.00, now(), now())");
+    }
+
+    @Test
+    void shouldLoadSegmentsAndMergeIntoMovieTable() throws Exception {
+        StringBuilder csv = new StringBuilder("title,launch_date,rank,revenue\n");
+        for (int i = 1; i <= 40; i++) {
+            csv.append("Movie ").append(i).append(",2001-01-").append(String.format("%02d", i % 28 + 1))
+                    .append(",").append(i % 10).append(".5,").append(i * 1000).append("\r\n");
+        }
+        csv.append("Inception,2010-07-16,9.1,900000000.005\n")
+                .append("\"  Spaced, \"\"Quoted\"\" \",1999-03-31,7,100\n")
+                .append("Duplicate,2005-05-05,1,1\n")
+                .append("Bad date,2005-13-45,5,10\n")
+                .append("Duplicate,2005-05-05,2,2\n")
+                .append("Too good,2005-05-05,11,10\n");
+        Files.writeString(IMPORT_DIRECTORY.resolve("catalogue.csv"), csv, StandardCharsets.UTF_8);
+
+        MovieImportJob job = awaitCompletion(movieImportService.start("catalogue.csv"));
+
+        assertThat(job.getState()).isEqualTo(MovieImportJob.State.COMPLETED);
+        assertThat(job.getError()).isNull();
+        assertThat(job.getRowsRead()).hasValue(46);
+        assertThat(job.getRowsAccepted()).hasValue(44);
+        assertThat(job.getRowsRejected()).hasValue(2);
+        assertThat(job.getRowsMerged()).isEqualTo(43);
+        assertThat(job.getProcessedBytes()).hasValue(job.getTotalBytes() - "title,launch_date,rank,revenue\n".length());
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM movie", Long.class)).isEqualTo(43);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM movie_import_staging", Long.class)).isZero();
+        assertThat(jdbcTemplate.queryForMap("SELECT rank, revenue FROM movie WHERE title = 'Inception'"))
+                .isEqualTo(Map.of("rank", new BigDecimal("9.1"), "revenue", new BigDecimal("900000000.01")));
+        assertThat(jdbcTemplate.queryForObject("SELECT rank FROM movie WHERE title = 'Duplicate'", String.class))
+                .isEqualTo("2.0");
+        assertThat(jdbcTemplate.queryForObject("SELECT title FROM movie WHERE launch_date = '1999-03-31'", String.class))
+                .isEqualTo("  Spaced, \"Quoted\" ");
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM movie WHERE title LIKE 'Movie %'", Long.class))
+                .isEqualTo(40);
+
+        List<String> rejects = Files.readAllLines(job.getRejectsFile(), StandardCharsets.UTF_8);
+        assertThat(rejects).hasSize(2);
+        assertThat(rejects).anySatisfy(line -> assertThat(line)
+                .startsWith(csv.indexOf("Bad date") + ",\"Bad date,2005-13-45,5,10\"")
+                .contains("Invalid launch date: 2005-13-45"));
+        assertThat(rejects).anySatisfy(line -> assertThat(line)
+                .startsWith(csv.indexOf("Too good") + ",")
+                .contains("Rank must be between 0 and 10"));
+        assertThat(job.getSampleRejects()).extracting(MovieImportJob.RejectedRow::offset)
+                .containsExactlyInAnyOrder((long) csv.indexOf("Bad date"), (long) csv.indexOf("Too good"));
+    }
+
+    @Test
+    void shouldCompleteImportAndRestoreIdFilterWhenListenerFails() throws Exception {
+        Files.writeString(IMPORT_DIRECTORY.resolve("small.csv"),
+                "title,launch_date,rank,revenue\nThe Matrix,1999-03-31,8.7,463517383\n", StandardCharsets.UTF_8);
+
+        MovieImportJob job = awaitCompletion(movieImportService.start("small.csv"));
+
+        assertThat(job.getState()).isEqualTo(MovieImportJob.State.COMPLETED);
+        assertThat(job.getRowsMerged()).isEqualTo(1);
+        Long id = jdbcTemplate.queryForObject("SELECT id FROM movie WHERE title = 'The Matrix'", Long.class);
+        Instant deadline = Instant.now().plus(Duration.ofSeconds(10));
+        while (movieIdFilter.mightContain(Long.MAX_VALUE) && Instant.now().isBefore(deadline)) {
+            Thread.sleep(50);
+        }
+        assertThat(movieIdFilter.mightContain(Long.MAX_VALUE)).isFalse();
+        assertThat(movieIdFilter.mightContain(id)).isTrue();
+    }
+
+    @Test
+    void shouldForgetOldestFinishedJobs() throws Exception {
+        Files.writeString(IMPORT_DIRECTORY.resolve("empty.csv"), "title,launch_date,rank,revenue\n", StandardCharsets.UTF_8);
+
+        MovieImportJob first = awaitCompletion(movieImportService.start("empty.csv"));
+        MovieImportJob second = awaitCompletion(movieImportService.start("empty.csv"));
+        MovieImportJob third = awaitCompletion(movieImportService.start("empty.csv"));
+
+        assertThatThrownBy(() -> movieImportService.findJob(first.getId()))
+                .isInstanceOf(MovieImportException.class);
+        assertThat(movieImportService.findJob(second.getId())).isSameAs(second);
+        assertThat(movieImportService.findJob(third.getId())).isSameAs(third);
+    }
+
+    private MovieImportJob awaitCompletion(MovieImportJob job) throws InterruptedException {
+        Instant deadline = Instant.now().plus(Duration.ofSeconds(30));
+        while (job.isActive() && Instant.now().isBefore(deadline)) {
+            Thread.sleep(50);
+        }
+        return job;
+    }
+
+    private static Path createImportDirectory() {
+        try {
+            return Files.createTempDirectory("movie-import-test");
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package pt.xpandit.movieapi.jfr;
+
+import jdk.jfr.Recording;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JfrAnalyzerTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldSummarizeMovieApiEvents() throws Exception {
+        Path dump = tempDir.resolve("recording.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(MovieServiceEvent.class);
+            recording.enable(MovieRequestEvent.class);
+            recording.start();
+
+            for (int i = 0; i < 3; i++) {
+                MovieRequestEvent request = new MovieRequestEvent();
+                request.begin();
+                MovieServiceEvent operation = MovieServiceEvent.begin("findAll");
+                List<String> movies = operation.measureDb(() -> List.of("The Matrix", "Inception"));
+                operation.measureMapping(movies::size);
+                operation.setRowsReturned(movies.size());
+                operation.complete();
+                request.method = "GET";
+                request.path = "/api/v1/movies";
+                request.handler = "MovieController.getAllMovies";
+                request.status = 200;
+                request.commit();
+            }
+
+            MovieServiceEvent failed = MovieServiceEvent.begin("findById");
+            failed.fail(new IllegalStateException("Movie not found"));
+            failed.complete();
+
+            recording.stop();
+            recording.dump(dump);
+        }
+
+        String summary = JfrAnalyzer.analyze(dump, 5);
+
+        assertThat(summary)
+                .contains("== Hottest endpoints (by total time) ==")
+                .containsPattern("GET /api/v1/movies\\s+count=3")
+                .containsPattern("findAll\\s+count=3 .* rows=6 failed=0")
+                .containsPattern("findById\\s+count=1 .* rows=0 failed=1")
+                .contains("== Allocation sources (by sampled weight) ==")
+                .contains("== Lock contention (by total blocked time) ==");
+    }
+
+    @Test
+    void shouldOnlyReportThreadsBlockedOnLocks() throws Exception {
+        Path dump = tempDir.resolve("contention.jfr");
+        ReentrantLock lock = new ReentrantLock();
+        Condition condition = lock.newCondition();
+        Object monitor = new Object();
+        try (Recording recording = new Recording()) {
+            recording.enable("jdk.ThreadPark").withThreshold(Duration.ZERO).withStackTrace();
+            recording.enable("jdk.JavaMonitorEnter").withThreshold(Duration.ZERO).withStackTrace();
+            recording.enable("jdk.JavaMonitorWait").withThreshold(Duration.ZERO).withStackTrace();
+            recording.start();
+
+            lock.lock();
+            Thread blocked = new Thread(() -> {
+                lock.lock();
+                lock.unlock();
+            });
+            blocked.start();
+            while (blocked.getState() != Thread.State.WAITING) {
+                Thread.sleep(1);
+            }
+            Thread.sleep(20);
+            lock.unlock();
+            blocked.join();
+
+            Thread awaiting = new Thread(() -> {
+                lock.lock();
+                try {
+                    condition.await(20, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    lock.unlock();
+                }
+            });
+            awaiting.start();
+            awaiting.join();
+
+            synchronized (monitor) {
+                monitor.wait(20);
+            }
+
+            recording.stop();
+            recording.dump(dump);
+        }
+
+        String summary = JfrAnalyzer.analyze(dump, 10);
+
+        assertThat(summary)
+                .contains("lock java.util.concurrent.locks.ReentrantLock$NonfairSync")
+                .doesNotContain("ConditionObject")
+                .doesNotContain("monitor java.lang.Object");
+    }
+}
@@ -0,0 +1,79 @@
+package pt.xpandit.movieapi.jfr;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+import pt.xpandit.movieapi.dto.response.JfrDumpResponse;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JfrDumpEndpointTest {
+
+    @TempDir
+    Path tempDir;
+
+    private JfrRecorder jfrRecorder;
+    private JfrDumpEndpoint jfrDumpEndpoint;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        jfrRecorder = new JfrRecorder("default", Duration.ofMinutes(30), DataSize.ofMegabytes(16), tempDir, 2);
+        jfrRecorder.start();
+        jfrDumpEndpoint = new JfrDumpEndpoint(jfrRecorder);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jfrRecorder.stop();
+    }
+
+    @Test
+    void shouldLimitDumpToRetainedPeriod() throws Exception {
+        JfrDumpResponse response = jfrDumpEndpoint.dump(Long.MAX_VALUE);
+
+        assertThat(Duration.between(response.from(), response.to())).isEqualTo(Duration.ofMinutes(30));
+        assertThat(response.file()).doesNotContain(tempDir.toString()).startsWith("movie-api-").endsWith(".jfr");
+        assertThat(response.sizeBytes()).isEqualTo(Files.size(tempDir.resolve(response.file())));
+    }
+
+    @Test
+    void shouldDumpAtLeastOneMinute() throws Exception {
+        JfrDumpResponse response = jfrDumpEndpoint.dump(-5L);
+
+        assertThat(Duration.between(response.from(), response.to())).isEqualTo(Duration.ofMinutes(1));
+    }
+
+    @Test
+    void shouldKeepOnlyLatestDumps() throws Exception {
+        jfrDumpEndpoint.dump(null);
+        Thread.sleep(5);
+        JfrDumpResponse second = jfrDumpEndpoint.dump(null);
+        Thread.sleep(5);
+        JfrDumpResponse third = jfrDumpEndpoint.dump(null);
+
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertThat(files.map(file -> file.getFileName().toString()))
+                    .containsExactlyInAnyOrder(second.file(), third.file());
+        }
+    }
+
+    @Test
+    void shouldLeaveOutEnvironmentAndSystemProperties() throws Exception {
+        JfrDumpResponse response = jfrDumpEndpoint.dump(null);
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(tempDir.resolve(response.file()));
+        assertThat(events).isNotEmpty();
+        assertThat(events).extracting(event -> event.getEventType().getName())
+                .doesNotContain("jdk.InitialEnvironmentVariable", "jdk.InitialSystemProperty", "jdk.JVMInformation");
+    }
+}
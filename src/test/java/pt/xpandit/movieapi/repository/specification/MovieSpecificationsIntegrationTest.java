@@ -0,0 +1,117 @@
+package pt.xpandit.movieapi.repository.specification;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import pt.xpandit.movieapi.PostgresIntegrationTest;
+import pt.xpandit.movieapi.domain.Movie;
+import pt.xpandit.movieapi.dto.request.MovieQueryRequest;
+import pt.xpandit.movieapi.repository.MovieRepository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class MovieSpecificationsIntegrationTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        movieRepository.deleteAll();
+        movieRepository.saveAll(List.of(
+                createMovie("The Matrix", LocalDate.of(1999, 3, 31), "8.7", "463517383.00"),
+                createMovie("The Matrix Reloaded", LocalDate.of(2003, 5, 15), "7.2", "741847937.00"),
+                createMovie("100% Wolf", LocalDate.of(2020, 6, 26), "5.5", "4000000.00"),
+                createMovie("100 Meters", LocalDate.of(2016, 3, 4), "6.3", "1500000.00"),
+                createMovie("Inception", LocalDate.of(2010, 7, 16), "8.8", "836836967.00")));
+        movieRepository.flush();
+    }
+
+    @Test
+    void shouldMatchExactTitle() {
+        assertThat(titles(MovieSpecifications.equalTo("title", "The Matrix"), Sort.by("id")))
+                .containsExactly("The Matrix");
+    }
+
+    @Test
+    void shouldMatchTitlePrefixWithEscapedWildcards() {
+        assertThat(titles(MovieSpecifications.titleStartsWith("100%"), Sort.by("title")))
+                .containsExactly("100% Wolf");
+        assertThat(titles(MovieSpecifications.titleStartsWith("The Matrix"), Sort.by("title")))
+                .containsExactly("The Matrix", "The Matrix Reloaded");
+    }
+
+    @Test
+    void shouldMatchInclusiveAndOpenRanges() {
+        assertThat(titles(MovieSpecifications.between("launchDate", LocalDate.of(2003, 5, 15), LocalDate.of(2016, 3, 4)),
+                Sort.by("launchDate")))
+                .containsExactly("The Matrix Reloaded", "Inception", "100 Meters");
+        assertThat(titles(MovieSpecifications.between("rank", new BigDecimal("8.7"), null), Sort.by("rank")))
+                .containsExactly("The Matrix", "Inception");
+        assertThat(titles(MovieSpecifications.between("revenue", null, new BigDecimal("4000000.00")), Sort.by("revenue")))
+                .containsExactly("100 Meters", "100% Wolf");
+    }
+
+    @Test
+    void shouldCombineQueryCriteria() {
+        MovieQueryRequest query = new MovieQueryRequest(null, "The", null, null, null, null, new BigDecimal("8"), null,
+                null, new BigDecimal("400000000"), null, null, null, null);
+
+        assertThat(titles(MovieSpecifications.fromQuery(query), Sort.by("id")))
+                .containsExactly("The Matrix");
+    }
+
+    @Test
+    void shouldReturnSlicesWithoutCounting() {
+        Slice<Movie> first = movieRepository.findSlice(Specification.allOf(),
+                PageRequest.of(0, 2, Sort.by(Sort.Order.desc("revenue"), Sort.Order.desc("id"))));
+        Slice<Movie> last = movieRepository.findSlice(Specification.allOf(),
+                PageRequest.of(2, 2, Sort.by(Sort.Order.desc("revenue"), Sort.Order.desc("id"))));
+
+        assertThat(first.getContent()).extracting(Movie::getTitle).containsExactly("Inception", "The Matrix Reloaded");
+        assertThat(first.hasNext()).isTrue();
+        assertThat(last.getContent()).extracting(Movie::getTitle).containsExactly("100 Meters");
+        assertThat(last.hasNext()).isFalse();
+    }
+
+    @Test
+    void shouldServeDescendingRevenueSortFromIndex() {
+        entityManager.createNativeQuery("SET LOCAL enable_seqscan = off").executeUpdate();
+
+        List<?> plan = entityManager.createNativeQuery(
+                "EXPLAIN SELECT * FROM movie ORDER BY revenue DESC, id DESC LIMIT 21").getResultList();
+
+        assertThat(plan).map(String::valueOf)
+                .anyMatch(line -> line.contains("Index Scan Backward using idx_movie_revenue"))
+                .noneMatch(line -> line.contains("Sort"));
+    }
+
+    private List<String> titles(Specification<Movie> specification, Sort sort) {
+        return movieRepository.findAll(specification, sort).stream().map(Movie::getTitle).toList();
+    }
+
+    private Movie createMovie(String title, LocalDate launchDate, String rank, String revenue) {
+        return Movie.builder()
+                .title(title)
+                .launchDate(launchDate)
+                .rank(new BigDecimal(rank))
+                .revenue(new BigDecimal(revenue))
+                .build();
+    }
+}
@@ -0,0 +1,201 @@
+package pt.xpandit.movieapi.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import pt.xpandit.movieapi.domain.Movie;
+import pt.xpandit.movieapi.repository.MovieRepository;
+import pt.xpandit.movieapi.service.event.MovieChangedEvent;
+import pt.xpandit.movieapi.service.event.MoviesImportMergingEvent;
+import pt.xpandit.movieapi.service.event.MoviesImportedEvent;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MovieIdFilterTest {
+
+    @Mock
+    private MovieRepository movieRepositoryMock;
+
+    private MovieIdFilter movieIdFilter;
+
+    @BeforeEach
+    void setUp() {
+        movieIdFilter = new MovieIdFilter(movieRepositoryMock, new SimpleMeterRegistry(), true, 0.01, 1024,
+                Duration.ofMillis(10));
+    }
+
+    @AfterEach
+    void tearDown() {
+        movieIdFilter.shutdown();
+    }
+
+    @Test
+    void shouldRejectMissingIdsOnceBuilt() throws Exception {
+        when(movieRepositoryMock.findIdsByIdGreaterThan(anyLong(), any(Limit.class))).thenReturn(List.of(1L, 2L));
+
+        assertThat(movieIdFilter.mightContain(3L)).isTrue();
+        movieIdFilter.requestRebuild().get(5, TimeUnit.SECONDS);
+
+        assertThat(movieIdFilter.mightContain(1L)).isTrue();
+        assertThat(movieIdFilter.mightContain(2L)).isTrue();
+        assertThat(movieIdFilter.mightContain(3L)).isFalse();
+    }
+
+    @Test
+    void shouldKeepCreatedIdCommittedWhileRebuildReadsTable() throws Exception {
+        when(movieRepositoryMock.findIdsByIdGreaterThan(anyLong(), any(Limit.class)))
+                .thenReturn(List.of(1L))
+                .thenAnswer(invocation -> {
+                    // The create commits after the rebuild started reading, so the read does not return it
+                    movieIdFilter.onMovieChanged(MovieChangedEvent.saved(createMovie(2L)));
+                    return List.of(1L);
+                });
+        movieIdFilter.requestRebuild().get(5, TimeUnit.SECONDS);
+
+        movieIdFilter.add(2L);
+        movieIdFilter.requestRebuild().get(5, TimeUnit.SECONDS);
+
+        assertThat(movieIdFilter.mightContain(2L)).isTrue();
+    }
+
+    @Test
+    void shouldKeepCreatedIdsWhenRebuildRunsConcurrently() throws Exception {
+        List<Long> existingIds = List.of(1L);
+        CountDownLatch readStarted = new CountDownLatch(1);
+        CountDownLatch createsCommitted = new CountDownLatch(1);
+        when(movieRepositoryMock.findIdsByIdGreaterThan(anyLong(), any(Limit.class)))
+                .thenReturn(existingIds)
+                .thenAnswer(invocation -> {
+                    readStarted.countDown();
+                    createsCommitted.await(5, TimeUnit.SECONDS);
+                    return existingIds;
+                });
+        movieIdFilter.requestRebuild().get(5, TimeUnit.SECONDS);
+
+        var rebuild = movieIdFilter.requestRebuild();
+        assertThat(readStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        Thread creator = new Thread(() -> {
+            for (long id = 2; id <= 500; id++) {
+                movieIdFilter.add(id);
+                movieIdFilter.onMovieChanged(MovieChangedEvent.saved(createMovie(id)));
+            }
+        });
+        creator.start();
+        creator.join();
+        createsCommitted.countDown();
+        rebuild.get(5, TimeUnit.SECONDS);
+
+        for (long id = 1; id <= 500; id++) {
+            assertThat(movieIdFilter.mightContain(id)).as("id %d", id).isTrue();
+        }
+    }
+
+    @Test
+    void shouldPassLookupsWhileImportIsMerged() throws Exception {
+        CountDownLatch rebuildStarted = new CountDownLatch(1);
+        CountDownLatch releaseRebuild = new CountDownLatch(1);
+        when(movieRepositoryMock.findIdsByIdGreaterThan(anyLong(), any(Limit.class)))
+                .thenReturn(List.of(1L))
+                .thenAnswer(invocation -> {
+                    rebuildStarted.countDown();
+                    releaseRebuild.await(5, TimeUnit.SECONDS);
+                    return List.of(1L, 2L);
+                });
+        movieIdFilter.requestRebuild().get(5, TimeUnit.SECONDS);
+        assertThat(movieIdFilter.mightContain(2L)).isFalse();
+
+        movieIdFilter.onMoviesImportMerging(new MoviesImportMergingEvent(UUID.randomUUID()));
+        assertThat(movieIdFilter.mightContain(2L)).isTrue();
+        movieIdFilter.onMoviesImported(new MoviesImportedEvent(1));
+        assertThat(rebuildStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(movieIdFilter.mightContain(2L)).isTrue();
+
+        releaseRebuild.countDown();
+        movieIdFilter.requestRebuild().get(5, TimeUnit.SECONDS);
+        assertThat(movieIdFilter.mightContain(2L)).isTrue();
+        assertThat(movieIdFilter.mightContain(3L)).isFalse();
+    }
+
+    @Test
+    void shouldRestoreFilterWhenRebuildAfterImportFails() throws Exception {
+        AtomicBoolean passedAfterFailure = new AtomicBoolean();
+        when(movieRepositoryMock.findIdsByIdGreaterThan(anyLong(), any(Limit.class)))
+                .thenReturn(List.of(1L))
+                .thenThrow(new IllegalStateException("Database unavailable"))
+                .thenAnswer(invocation -> {
+                    // The retry runs once the failed rebuild has been handled, before the filter is rebuilt again
+                    passedAfterFailure.set(movieIdFilter.mightContain(2L));
+                    return List.of(1L);
+                });
+        movieIdFilter.requestRebuild().get(5, TimeUnit.SECONDS);
+
+        movieIdFilter.onMoviesImportMerging(new MoviesImportMergingEvent(UUID.randomUUID()));
+        movieIdFilter.onMoviesImported(new MoviesImportedEvent(1));
+        awaitRejected(2L);
+
+        assertThat(passedAfterFailure).isTrue();
+    }
+
+    @Test
+    void shouldRetryBuildUntilDatabaseIsReachable() throws Exception {
+        when(movieRepositoryMock.findIdsByIdGreaterThan(anyLong(), any(Limit.class)))
+                .thenThrow(new IllegalStateException("Database unavailable"))
+                .thenThrow(new IllegalStateException("Database unavailable"))
+                .thenReturn(List.of(1L));
+
+        movieIdFilter.initialize();
+        awaitRejected(3L);
+
+        assertThat(movieIdFilter.mightContain(1L)).isTrue();
+        verify(movieRepositoryMock, times(3)).findIdsByIdGreaterThan(anyLong(), any(Limit.class));
+    }
+
+    @Test
+    void shouldAlwaysPassWhenDisabled() {
+        MovieIdFilter disabled = new MovieIdFilter(movieRepositoryMock, new SimpleMeterRegistry(), false, 0.01, 1024,
+                Duration.ofMillis(10));
+
+        disabled.initialize();
+
+        assertThat(disabled.mightContain(42L)).isTrue();
+        disabled.shutdown();
+    }
+
+    private void awaitRejected(long id) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (movieIdFilter.mightContain(id)) {
+            assertThat(System.nanoTime()).as("id %d still passes the filter", id).isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    private Movie createMovie(Long id) {
+        Movie movie = new Movie();
+        movie.setId(id);
+        movie.setTitle("Movie " + id);
+        movie.setLaunchDate(LocalDate.of(2020, 1, 1));
+        movie.setRank(new BigDecimal("5.0"));
+        movie.setRevenue(new BigDecimal("1000.00"));
+        return movie;
+    }
+}
@@ -5,11 +5,22 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import pt.xpandit.movieapi.domain.Movie;
+import pt.xpandit.movieapi.dto.request.MovieQueryRequest;
 import pt.xpandit.movieapi.dto.request.MovieRequest;
 import pt.xpandit.movieapi.dto.response.MovieResponse;
+import pt.xpandit.movieapi.dto.response.PageResponse;
+import pt.xpandit.movieapi.exception.InvalidQueryException;
 import pt.xpandit.movieapi.exception.MovieNotFoundException;
 import pt.xpandit.movieapi.repository.MovieRepository;
+import pt.xpandit.movieapi.service.event.MovieChangedEvent;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -19,6 +30,7 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -27,6 +39,12 @@ class MovieServiceTest {
     @Mock
     private MovieRepository movieRepositoryMock;
 
+    @Mock
+    private MovieIdFilter movieIdFilterMock;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisherMock;
+
     @InjectMocks
     private MovieService movieService;
 
@@ -35,11 +53,13 @@ class MovieServiceTest {
         MovieRequest request = createMovieRequest();
         Movie expectedMovie = createMovie();
 
-        when(movieRepositoryMock.save(any(Movie.class))).thenReturn(expectedMovie);
+        when(movieRepositoryMock.saveAndFlush(any(Movie.class))).thenReturn(expectedMovie);
         Movie response = movieService.create(request);
 
         assertThat(response).usingRecursiveComparison().isEqualTo(expectedMovie);
-        verify(movieRepositoryMock).save(any(Movie.class));
+        verify(movieRepositoryMock).saveAndFlush(any(Movie.class));
+        verify(movieIdFilterMock).add(1L);
+        verify(eventPublisherMock).publishEvent(MovieChangedEvent.saved(expectedMovie));
     }
 
     @Test
@@ -47,6 +67,7 @@ class MovieServiceTest {
         Movie movie = createMovie();
         MovieResponse expectedResponse = createMovieResponse();
 
+        when(movieIdFilterMock.mightContain(1L)).thenReturn(true);
         when(movieRepositoryMock.findById(1L)).thenReturn(Optional.of(movie));
         MovieResponse response = movieService.findById(1L);
 
@@ -55,11 +76,36 @@ class MovieServiceTest {
 
     @Test
     void shouldThrowExceptionWhenMovieNotFound() {
+        when(movieIdFilterMock.mightContain(1L)).thenReturn(true);
         when(movieRepositoryMock.findById(1L)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> movieService.findById(1L))
                 .isInstanceOf(MovieNotFoundException.class)
                 .hasMessage("Movie not found with id: 1");
+        verify(movieIdFilterMock).recordFalsePositive();
+    }
+
+    @Test
+    void shouldRejectMovieIdWithoutQueryingDatabase() {
+        when(movieIdFilterMock.mightContain(1L)).thenReturn(false);
+
+        assertThatThrownBy(() -> movieService.findById(1L))
+                .isInstanceOf(MovieNotFoundException.class)
+                .hasMessage("Movie not found with id: 1");
+        verify(movieRepositoryMock, never()).findById(any());
+    }
+
+    @Test
+    void shouldFlushDeletionBeforeReturning() {
+        Movie movie = createMovie();
+        when(movieRepositoryMock.findById(1L)).thenReturn(Optional.of(movie));
+
+        movieService.delete(1L);
+
+        var inOrder = inOrder(movieRepositoryMock, eventPublisherMock);
+        inOrder.verify(movieRepositoryMock).delete(movie);
+        inOrder.verify(movieRepositoryMock).flush();
+        inOrder.verify(eventPublisherMock).publishEvent(MovieChangedEvent.deleted(1L));
     }
 
     @Test
@@ -88,6 +134,58 @@ class MovieServiceTest {
         assertThat(responses).usingRecursiveComparison().isEqualTo(expectedMovies);
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldQueryMoviesWithSortAndPage() {
+        MovieQueryRequest query = createMovieQuery(List.of("title", "revenue:desc"), BigDecimal.valueOf(8), BigDecimal.valueOf(10));
+        Slice<Movie> slice = new SliceImpl<>(List.of(createMovie()), PageRequest.of(0, MovieService.DEFAULT_PAGE_SIZE), true);
+        Sort expectedSort = Sort.by(Sort.Order.asc("title"), Sort.Order.desc("revenue"), Sort.Order.desc("id"));
+
+        when(movieRepositoryMock.findSlice(any(Specification.class), argThat((Pageable pageable) ->
+                pageable.getPageNumber() == 0
+                        && pageable.getPageSize() == MovieService.DEFAULT_PAGE_SIZE
+                        && pageable.getSort().equals(expectedSort))))
+                .thenReturn(slice);
+        PageResponse<MovieResponse> response = movieService.query(query);
+
+        assertThat(response.content()).usingRecursiveComparison().isEqualTo(List.of(createMovieResponse()));
+        assertThat(response.hasNext()).isTrue();
+    }
+
+    @Test
+    void shouldRejectPageBeyondResultWindow() {
+        MovieQueryRequest query = new MovieQueryRequest(null, null, null, null, null, null, null, null,
+                null, null, null, null, 100, 100);
+
+        assertThatThrownBy(() -> movieService.query(query))
+                .isInstanceOf(InvalidQueryException.class)
+                .hasMessageStartingWith("Only the first 10000 results can be paged through");
+        verifyNoInteractions(movieRepositoryMock);
+    }
+
+    @Test
+    void shouldRejectUnsupportedSortKey() {
+        MovieQueryRequest query = createMovieQuery(List.of("createdDate:desc"), null, null);
+
+        assertThatThrownBy(() -> movieService.query(query))
+                .isInstanceOf(InvalidQueryException.class)
+                .hasMessage("Unsupported sort key: createdDate:desc");
+    }
+
+    @Test
+    void shouldRejectInvertedRange() {
+        MovieQueryRequest query = createMovieQuery(null, BigDecimal.valueOf(9), BigDecimal.valueOf(8));
+
+        assertThatThrownBy(() -> movieService.query(query))
+                .isInstanceOf(InvalidQueryException.class)
+                .hasMessage("Invalid rank range: minimum is greater than maximum");
+    }
+
+    private MovieQueryRequest createMovieQuery(List<String> sort, BigDecimal rankMin, BigDecimal rankMax) {
+        return new MovieQueryRequest(null, null, null, null, null, null, rankMin, rankMax,
+                null, null, null, sort, null, null);
+    }
+
     private Movie createMovie() {
         return Movie.builder()
                 .id(1L)